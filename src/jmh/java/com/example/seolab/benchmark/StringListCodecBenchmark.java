@@ -0,0 +1,71 @@
+package com.example.seolab.benchmark;
+
+import com.example.seolab.util.StringListJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Book.authors/translators 변환 비교: Hibernate 기본(Jackson) vs StringListJson
+// snapshot* 는 로드 시 스냅샷 복사 + 플러시 시 더티 체크 한 번을 흉내낸다
+// (기본 JSON 매핑은 스냅샷을 JSON 직렬화/역직렬화로 복사, StringListJavaType은 변경 불가 리스트를 그대로 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringListCodecBenchmark {
+
+	private ObjectMapper objectMapper;
+	private JavaType listType;
+	private String json;
+	private List<String> loaded;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		listType = objectMapper.getTypeFactory().constructCollectionType(List.class, String.class);
+		// MySQL JSON 컬럼이 돌려주는 형식
+		json = "[\"한강\", \"Deborah Smith\", \"김\\\"영하\\\"\"]";
+		loaded = StringListJson.parse(json);
+	}
+
+	@Benchmark
+	public List<String> parseJackson() throws JsonProcessingException {
+		return objectMapper.readValue(json, listType);
+	}
+
+	@Benchmark
+	public List<String> parseStringListJson() {
+		return StringListJson.parse(json);
+	}
+
+	@Benchmark
+	public String writeJackson() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(loaded);
+	}
+
+	@Benchmark
+	public String writeStringListJson() {
+		return StringListJson.write(loaded);
+	}
+
+	@Benchmark
+	public boolean snapshotJackson() throws JsonProcessingException {
+		List<String> snapshot = objectMapper.readValue(objectMapper.writeValueAsString(loaded), listType);
+		return snapshot.equals(loaded);
+	}
+
+	@Benchmark
+	public boolean snapshotStringListJson() {
+		List<String> snapshot = List.copyOf(loaded);
+		return snapshot.equals(loaded);
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.seolab.config;
+
+import com.example.seolab.util.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Book/User ID를 애플리케이션에서 만들므로(Tsid) Hibernate JDBC 배치를 켤 수 있다
+@Configuration
+@Slf4j
+public class HibernateBatchConfig {
+
+	@Value("${jpa.batch-size:50}")
+	private int batchSize;
+
+	// 인스턴스마다 달라야 한다 (0~15)
+	// 설정이 없으면 0을 쓰되, 여러 인스턴스가 같은 값을 쓰면 PK가 겹칠 수 있으므로 경고를 남긴다
+	@Value("${id.node-id:#{null}}")
+	private Integer nodeId;
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateBatchCustomizer() {
+		if (nodeId == null) {
+			log.warn("id.node-id is not set, using 0. Set a distinct value per instance when running more than one instance");
+			Tsid.setNodeId(0);
+		} else {
+			Tsid.setNodeId(nodeId);
+		}
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.put(AvailableSettings.ORDER_INSERTS, true);
+			properties.put(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.seolab.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+// Book 카탈로그용 Hibernate 2차 캐시 (Caffeine JCache, 프로세스 내 크기 제한)
+@Configuration
+public class HibernateCacheConfig {
+
+	public static final String BOOK_REGION = "book";
+	public static final String BOOK_NATURAL_ID_REGION = "book-natural-id";
+
+	@Value("${book.cache.max-entries:10000}")
+	private long maxEntries;
+
+	@Value("${book.cache.ttl-minutes:60}")
+	private long ttlMinutes;
+
+	@Value("${book.cache.statistics-enabled:true}")
+	private boolean statisticsEnabled;
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer() {
+		CacheManager cacheManager = bookCacheManager();
+		return properties -> {
+			properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+			properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+			properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+			properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+		};
+	}
+
+	private CacheManager bookCacheManager() {
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+			.getCacheManager();
+
+		// 같은 JVM에서 컨텍스트가 여러 번 뜨는 경우(테스트) 이미 만든 캐시는 재사용
+		for (String region : List.of(BOOK_REGION, BOOK_NATURAL_ID_REGION)) {
+			if (cacheManager.getCache(region) == null) {
+				CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+				configuration.setMaximumSize(OptionalLong.of(maxEntries));
+				configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofMinutes(ttlMinutes).toNanos()));
+				configuration.setStatisticsEnabled(statisticsEnabled);
+				cacheManager.createCache(region, configuration);
+			}
+		}
+		return cacheManager;
+	}
+}
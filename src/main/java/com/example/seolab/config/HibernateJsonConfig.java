@@ -0,0 +1,19 @@
+package com.example.seolab.config;
+
+import com.example.seolab.entity.StringListFormatMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// JSON 컬럼 변환: List<String> 컬럼은 전용 파서, 그 외는 Hibernate 기본(Jackson)
+@Configuration
+public class HibernateJsonConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateJsonCustomizer() {
+		return properties -> properties.put(AvailableSettings.JSON_FORMAT_MAPPER,
+			new StringListFormatMapper(new JacksonJsonFormatMapper()));
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.seolab.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	// 기본 스케줄러는 스레드 1개라 워밍업 같은 긴 작업이 다른 작업을 막지 않도록 늘린다
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(
+		@Value("${scheduling.pool-size:4}") int poolSize) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("Scheduler-");
+		scheduler.initialize();
+		return scheduler;
+	}
+}
@@ -1,10 +1,12 @@
 package com.example.seolab.config;
 
 import com.example.seolab.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -41,8 +43,14 @@ public class SecurityConfig {
 			.cors(cors -> cors.configurationSource(corsConfigurationSource()))
 			.csrf(AbstractHttpConfigurer::disable)
 			.authorizeHttpRequests(authz -> authz
+				// DeferredResult 응답(검색)은 ASYNC 재디스패치로 쓰이는데, 최초 요청에서 이미 인가를 통과했고
+				// STATELESS라 재디스패치에는 인증 정보가 남아 있지 않으므로 다시 검사하지 않는다
+				.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
 				.requestMatchers("/api/auth/login", "/api/auth/signup",
 					"/api/auth/refresh", "/api/auth/verify/**").permitAll()
+				.requestMatchers("/actuator/health/**").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/thumbnails/**").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/catalog/**").permitAll()
 				.anyRequest().authenticated()
 			)
 			.sessionManagement(session -> session
@@ -0,0 +1,114 @@
+package com.example.seolab.controller;
+
+import com.example.seolab.dto.request.CatalogImportRequest;
+import com.example.seolab.dto.response.BookMergeStatusResponse;
+import com.example.seolab.dto.response.CacheStatsResponse;
+import com.example.seolab.dto.response.CatalogImportStatusResponse;
+import com.example.seolab.dto.response.TopQueryResponse;
+import com.example.seolab.entity.User;
+import com.example.seolab.exception.AccessDeniedException;
+import com.example.seolab.service.BookCacheService;
+import com.example.seolab.service.BookMergeService;
+import com.example.seolab.service.CatalogImportService;
+import com.example.seolab.service.SearchQueryStatsService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+	private final SearchQueryStatsService searchQueryStatsService;
+	private final BookCacheService bookCacheService;
+	private final CatalogImportService catalogImportService;
+	private final BookMergeService bookMergeService;
+
+	@Value("${admin.emails:}")
+	private List<String> adminEmails;
+
+	// GET /api/admin/search/top-queries - 많이 검색된 검색어 목록
+	@GetMapping("/search/top-queries")
+	public ResponseEntity<List<TopQueryResponse>> getTopQueries(
+		@RequestParam(defaultValue = "20") int limit,
+		Authentication authentication) {
+
+		checkAdmin(authentication);
+		return ResponseEntity.ok(searchQueryStatsService.getTopQueries(limit));
+	}
+
+	// GET /api/admin/cache/books - Book 2차 캐시 적중률
+	@GetMapping("/cache/books")
+	public ResponseEntity<List<CacheStatsResponse>> getBookCacheStats(Authentication authentication) {
+		checkAdmin(authentication);
+		return ResponseEntity.ok(bookCacheService.getStatistics());
+	}
+
+	// DELETE /api/admin/cache/books - Book 2차 캐시 전체 무효화 (DB를 직접 수정한 경우)
+	@DeleteMapping("/cache/books")
+	public ResponseEntity<Void> evictBookCache(Authentication authentication) {
+		checkAdmin(authentication);
+		bookCacheService.evictAll();
+		return ResponseEntity.noContent().build();
+	}
+
+	// POST /api/admin/catalog/import - ISBN 목록 파일로 카탈로그 가져오기 시작 (체크포인트가 있으면 이어서)
+	@PostMapping("/catalog/import")
+	public ResponseEntity<CatalogImportStatusResponse> startCatalogImport(
+		@Valid @RequestBody CatalogImportRequest request,
+		Authentication authentication) {
+
+		checkAdmin(authentication);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(catalogImportService.start(request.getFileName()));
+	}
+
+	// GET /api/admin/catalog/import - 최근 가져오기 작업 진행 상황
+	@GetMapping("/catalog/import")
+	public ResponseEntity<CatalogImportStatusResponse> getCatalogImportStatus(Authentication authentication) {
+		checkAdmin(authentication);
+		return catalogImportService.getStatus()
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+
+	// DELETE /api/admin/catalog/import - 실행 중인 가져오기 중단 (마지막 체크포인트부터 다시 시작 가능)
+	@DeleteMapping("/catalog/import")
+	public ResponseEntity<Void> cancelCatalogImport(Authentication authentication) {
+		checkAdmin(authentication);
+		catalogImportService.cancel();
+		return ResponseEntity.noContent().build();
+	}
+
+	// POST /api/admin/catalog/merge-duplicates?dryRun=true - 중복 책 병합 시작 (dryRun이면 대상만 집계)
+	@PostMapping("/catalog/merge-duplicates")
+	public ResponseEntity<BookMergeStatusResponse> mergeDuplicateBooks(
+		@RequestParam(defaultValue = "true") boolean dryRun,
+		Authentication authentication) {
+
+		checkAdmin(authentication);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(bookMergeService.start(dryRun));
+	}
+
+	// GET /api/admin/catalog/merge-duplicates - 최근 병합 작업 진행 상황과 결과
+	@GetMapping("/catalog/merge-duplicates")
+	public ResponseEntity<BookMergeStatusResponse> getMergeDuplicateBooksStatus(Authentication authentication) {
+		checkAdmin(authentication);
+		return bookMergeService.getStatus()
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+
+	private void checkAdmin(Authentication authentication) {
+		User user = (User) authentication.getPrincipal();
+		if (!adminEmails.contains(user.getEmail())) {
+			throw new AccessDeniedException("관리자만 접근할 수 있습니다.");
+		}
+	}
+}
@@ -45,10 +45,11 @@ public class BookController {
 	public ResponseEntity<List<UserBookResponse>> getUserBooks(
 		@RequestParam(required = false) Boolean favorite,
 		@RequestParam(required = false) Boolean reading,
+		@RequestParam(required = false) String author,
 		Authentication authentication) {
 
 		Long userId = getUserIdFromAuthentication(authentication);
-		List<UserBookResponse> books = userBookService.getUserBooks(userId, favorite, reading);
+		List<UserBookResponse> books = userBookService.getUserBooks(userId, favorite, reading, author);
 
 		return ResponseEntity.ok(books);
 	}
@@ -1,24 +1,50 @@
 package com.example.seolab.controller;
 
 import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.entity.User;
 import com.example.seolab.service.BookSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.Disposable;
+
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/books")
 @RequiredArgsConstructor
 @Validated
+@Slf4j
 public class BookSearchController {
 
+	// 클라이언트 이탈이 아니라 요청 타임아웃으로 취소된 검색 수
+	private static final String TIMEOUT_METRIC = "book.search.timeouts";
+
 	private final BookSearchService bookSearchService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${search.http-cache.max-age-seconds:60}")
+	private long maxAgeSeconds;
+
+	@Value("${search.http-cache.stale-while-revalidate-seconds:300}")
+	private long staleWhileRevalidateSeconds;
+
+	@Value("${search.request-timeout-ms:5000}")
+	private long requestTimeoutMillis;
 
 	@GetMapping("/search")
-	public ResponseEntity<BookSearchResponse> searchBooks(
+	public DeferredResult<ResponseEntity<BookSearchResponse>> searchBooks(
 		@RequestParam
 		@NotBlank(message = "검색어는 필수입니다.")
 		@Size(min = 1, max = 100, message = "검색어는 1-100자 사이여야 합니다.")
@@ -31,9 +57,59 @@ public class BookSearchController {
 		int page,
 
 		@RequestParam(defaultValue = "10")
-		int size) {
+		int size,
+
+		Authentication authentication) {
+
+		Long userId = getUserIdFromAuthentication(authentication);
+
+		DeferredResult<ResponseEntity<BookSearchResponse>> result = new DeferredResult<>(
+			requestTimeoutMillis, () -> ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build());
+
+		Disposable subscription = bookSearchService.searchBooksAsync(userId, query, target, page, size)
+			.map(this::toResponseEntity)
+			.subscribe(result::setResult, result::setErrorResult);
+
+		// 타임아웃이 나면 카카오 호출 구독을 끊어 커넥션과 쿼터를 돌려준다
+		// 서블릿 컨테이너는 클라이언트 연결 끊김을 다음 I/O 때에야 알리므로 이탈한 요청도 실제로는 타임아웃에서 취소된다
+		// onError는 컨테이너가 비동기 오류를 알린 경우(응답 쓰기 실패 등)에만 호출된다
+		result.onTimeout(() -> {
+			meterRegistry.counter(TIMEOUT_METRIC).increment();
+			cancel(subscription, "timeout", query);
+		});
+		result.onError(error -> cancel(subscription, "async error", query));
+
+		return result;
+	}
+
+	private ResponseEntity<BookSearchResponse> toResponseEntity(BookSearchResponse response) {
+		// If-None-Match가 ETag와 일치하면 HttpEntityMethodProcessor가 본문 직렬화 없이 304를 반환
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.cacheControl(searchCacheControl())
+			.varyBy(HttpHeaders.AUTHORIZATION);
+		if (response.getEtag() != null) {
+			builder.eTag(response.getEtag());
+		}
+		return builder.body(response);
+	}
+
+	private void cancel(Disposable subscription, String reason, String query) {
+		if (subscription.isDisposed()) {
+			return;
+		}
+		subscription.dispose();
+		log.info("Cancelled book search for query: {} ({})", query, reason);
+	}
+
+	// 검색 결과에 사용자별 보유 여부가 포함되므로 공유 캐시가 아닌 private 캐시만 허용
+	private CacheControl searchCacheControl() {
+		return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+			.cachePrivate()
+			.staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds));
+	}
 
-		BookSearchResponse response = bookSearchService.searchBooks(query, target, page, size);
-		return ResponseEntity.ok(response);
+	private Long getUserIdFromAuthentication(Authentication authentication) {
+		User user = (User) authentication.getPrincipal();
+		return user.getUserId();
 	}
 }
@@ -0,0 +1,39 @@
+package com.example.seolab.controller;
+
+import com.example.seolab.dto.response.AuthorBooksResponse;
+import com.example.seolab.dto.response.CatalogBookResponse;
+import com.example.seolab.service.CatalogBookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 로그인 없이 볼 수 있는 공개 카탈로그
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+	private final CatalogBookService catalogBookService;
+
+	// GET /api/catalog/books/{bookId} - 책 정보와 전체 독자/완독/문장 수
+	@GetMapping("/books/{bookId}")
+	public ResponseEntity<CatalogBookResponse> getBook(@PathVariable Long bookId) {
+		return catalogBookService.getBook(bookId)
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	// GET /api/catalog/authors/{name}/books?cursor=&size=20 - 저자별 책 목록 (커서 기반)
+	@GetMapping("/authors/{name}/books")
+	public ResponseEntity<AuthorBooksResponse> getBooksByAuthor(
+		@PathVariable String name,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "20") int size) {
+
+		return ResponseEntity.ok(catalogBookService.getBooksByAuthor(name, cursor, size));
+	}
+}
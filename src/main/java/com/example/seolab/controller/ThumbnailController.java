@@ -0,0 +1,84 @@
+package com.example.seolab.controller;
+
+import com.example.seolab.service.ThumbnailService;
+import com.example.seolab.service.ThumbnailService.StoredThumbnail;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/thumbnails")
+@RequiredArgsConstructor
+public class ThumbnailController {
+
+	// Tomcat sendfile 요청 속성
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final ThumbnailService thumbnailService;
+
+	@Value("${thumbnail.cache.max-age-seconds:604800}")
+	private long maxAgeSeconds;
+
+	// GET /api/thumbnails/{bookId}?w=120 - 책 표지 이미지 (로컬 캐시 경유, w 지정 시 축소본)
+	@GetMapping("/{bookId}")
+	public void getThumbnail(@PathVariable Long bookId,
+		@RequestParam(name = "w", required = false) Integer width,
+		HttpServletRequest request,
+		HttpServletResponse response) throws IOException {
+
+		Optional<StoredThumbnail> thumbnail = thumbnailService.getThumbnail(bookId, width);
+		if (thumbnail.isEmpty()) {
+			response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+
+		StoredThumbnail stored = thumbnail.get();
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAgeSeconds);
+
+		// 내용 해시가 곧 ETag이므로 같으면 304로 끝낸다
+		if (new ServletWebRequest(request, response).checkNotModified("\"" + stored.hash() + "\"")) {
+			return;
+		}
+
+		response.setContentType(stored.contentType());
+		response.setContentLengthLong(stored.size());
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			// 컨테이너가 커널 sendfile로 파일을 직접 내려보낸다
+			request.setAttribute(SENDFILE_FILENAME, stored.file().toRealPath().toString());
+			request.setAttribute(SENDFILE_START, 0L);
+			request.setAttribute(SENDFILE_END, stored.size());
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(stored.file(), StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = 0;
+			while (position < stored.size()) {
+				long transferred = channel.transferTo(position, stored.size() - position, out);
+				if (transferred <= 0) {
+					break;
+				}
+				position += transferred;
+			}
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.seolab.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportRequest {
+
+	@NotBlank(message = "파일 이름은 필수입니다.")
+	private String fileName;
+}
@@ -0,0 +1,40 @@
+package com.example.seolab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthorBooksResponse {
+	private String author;
+	private List<BookItem> books;
+
+	// 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+	private Long nextCursor;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class BookItem {
+		private Long bookId;
+		private String title;
+		private List<String> authors;
+		private String publisher;
+		private String isbn;
+		private LocalDate publishedDate;
+		private String thumbnail;
+		private String thumbnailSrcset;
+		private String placeholder;
+	}
+}
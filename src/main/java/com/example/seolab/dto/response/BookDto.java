@@ -8,6 +8,7 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Setter
@@ -23,4 +24,7 @@ public class BookDto {
 	private String publisher;
 	private List<String> translators;
 	private String thumbnail;
+
+	// 검색 결과에서 사용자가 이미 서재에 담은 책이면 해당 UserBook ID
+	private UUID ownedUserBookId;
 }
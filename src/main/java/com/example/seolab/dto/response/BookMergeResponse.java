@@ -0,0 +1,21 @@
+package com.example.seolab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookMergeResponse {
+	private boolean dryRun;
+	private int scannedBooks;
+	private int clusters;
+	private int mergedBooks;
+	private int movedUserBooks;
+	private int removedUserBooks;
+}
@@ -0,0 +1,23 @@
+package com.example.seolab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookMergeStatusResponse {
+	private boolean dryRun;
+	private boolean running;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private BookMergeResponse result;
+	private String error;
+}
@@ -8,6 +8,7 @@ import lombok.Setter;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 @Getter
@@ -21,4 +22,18 @@ public class BookSearchResponse {
 
 	@JsonProperty("isEnd")
 	private boolean isEnd;
+
+	// 검색 결과가 없을 때 제안하는 교정 검색어
+	private List<String> suggestions;
+
+	// 교정 검색어로 자동 재검색한 경우 실제 사용한 검색어
+	private String correctedQuery;
+
+	// 응답 본문의 콘텐츠 해시 (HTTP ETag), 직렬화 대상 아님
+	@JsonIgnore
+	private String etag;
+
+	// 일부 provider가 마감 시간 안에 응답하지 못한 결과 (캐시하지 않음)
+	@JsonIgnore
+	private boolean partial;
 }
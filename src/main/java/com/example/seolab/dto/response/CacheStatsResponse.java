@@ -0,0 +1,21 @@
+package com.example.seolab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+	private String region;
+	private long hitCount;
+	private long missCount;
+	private long putCount;
+	private double hitRatio;
+	private boolean statisticsEnabled;
+}
@@ -0,0 +1,34 @@
+package com.example.seolab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogBookResponse {
+	private Long bookId;
+	private String title;
+	private List<String> authors;
+	private String publisher;
+	private String isbn;
+	private LocalDate publishedDate;
+	private List<String> translators;
+	private String contents;
+	private String thumbnail;
+	private String thumbnailSrcset;
+	private String placeholder;
+
+	// 전체 사용자 기준 통계
+	private long readerCount;
+	private long finishedCount;
+	private long quoteCount;
+}
@@ -0,0 +1,29 @@
+package com.example.seolab.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogImportStatusResponse {
+	private String fileName;
+	private boolean running;
+	private long resumedFromLine;
+	private long currentLine;
+	// 카카오에서 찾아 저장을 시도한 ISBN 수 (이미 있던 책 포함)
+	private long resolved;
+	private long notFound;
+	private long failed;
+	private double rowsPerSecond;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private String error;
+}
@@ -1,5 +1,6 @@
 package com.example.seolab.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -40,5 +41,11 @@ public class UserBookResponse {
 		private String publisher;
 		private List<String> translators;
 		private String thumbnail;
+		private String thumbnailSrcset;
+		private String placeholder;
+
+		// 상세 조회(GET /api/books/{userBookId})에서만 채운다
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		private String contents;
 	}
 }
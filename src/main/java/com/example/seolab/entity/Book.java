@@ -1,12 +1,19 @@
 package com.example.seolab.entity;
 
+import com.example.seolab.config.HibernateCacheConfig;
+import com.example.seolab.util.BookFingerprint;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JavaType;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
@@ -20,9 +27,20 @@ import java.util.List;
 		@UniqueConstraint(
 			name = "unique_book",
 			columnNames = {"title", "authors", "publisher"}
+		),
+		@UniqueConstraint(
+			name = "unique_isbn",
+			columnNames = {"isbn"}
 		)
+	},
+	indexes = {
+		@Index(name = "idx_books_fingerprint", columnList = "fingerprint"),
+		@Index(name = "idx_books_metadata_checked_at", columnList = "metadata_checked_at")
 	}
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.BOOK_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.BOOK_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,7 +49,7 @@ import java.util.List;
 public class Book {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TsidId
 	@Column(name = "book_id")
 	private Long bookId;
 
@@ -39,31 +57,52 @@ public class Book {
 	private String title;
 
 	@JdbcTypeCode(SqlTypes.JSON)
+	@JavaType(StringListJavaType.class)
 	@Column(nullable = false, columnDefinition = "JSON")
 	private List<String> authors;  // JSON 배열로 저장
 
 	private String publisher;
 
-	private String isbn;
+	@NaturalId(mutable = true)
+	private String isbn;  // ISBN-13으로 정규화 (IsbnUtils.normalize)
 
 	@Column(columnDefinition = "TEXT")
 	private String contents;
 
 	private String thumbnail;
 
+	// 표지 로딩 전 보여줄 BlurHash
+	@Column(length = 64)
+	private String placeholder;
+
 	@Column(name = "published_date")
 	private LocalDate publishedDate;
 
 	@JdbcTypeCode(SqlTypes.JSON)
+	@JavaType(StringListJavaType.class)
 	@Column(columnDefinition = "JSON")
 	private List<String> translators;  // JSON 배열로 저장
 
+	// 제목 + 첫 번째 저자 + 출판사 정규화 해시 (ISBN 없는 책 중복 확인용)
+	@Column(length = 64)
+	private String fingerprint;
+
+	// 메타데이터 보강 작업이 마지막으로 확인한 시각 (못 찾은 책을 매번 다시 조회하지 않도록)
+	@Column(name = "metadata_checked_at")
+	private LocalDateTime metadataCheckedAt;
+
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
 	@PrePersist
 	protected void onCreate() {
 		createdAt = LocalDateTime.now();
+		fingerprint = BookFingerprint.of(title, getFirstAuthor(), publisher);
+	}
+
+	@PreUpdate
+	protected void onUpdate() {
+		fingerprint = BookFingerprint.of(title, getFirstAuthor(), publisher);
 	}
 
 	// 편의 메소드: 첫 번째 저자 반환 (기존 로직 호환용)
@@ -0,0 +1,54 @@
+package com.example.seolab.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+// Book.authors(JSON)를 저자 단위 행으로 풀어둔 색인 테이블 (BookJdbcRepository가 책 저장과 함께 기록)
+@Entity
+@Table(
+	name = "book_authors",
+	indexes = {
+		@Index(name = "idx_book_authors_normalized_name", columnList = "normalized_name, book_id")
+	}
+)
+@IdClass(BookAuthor.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookAuthor {
+
+	@Id
+	@Column(name = "book_id")
+	private Long bookId;
+
+	// AuthorNames.normalize 결과
+	@Id
+	@Column(name = "normalized_name", length = 255)
+	private String normalizedName;
+
+	@Column(nullable = false)
+	private String name;
+
+	// Book.authors 안에서의 순서 (0이 대표 저자)
+	@Column(name = "author_order", nullable = false)
+	private int authorOrder;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private Long bookId;
+		private String normalizedName;
+	}
+}
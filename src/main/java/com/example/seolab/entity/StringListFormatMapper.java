@@ -0,0 +1,41 @@
+package com.example.seolab.entity;
+
+import com.example.seolab.util.StringListJson;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.FormatMapper;
+
+import java.util.List;
+
+// StringListJavaType 컬럼은 StringListJson으로 직접 변환하고, 나머지 JSON 타입은 기존 매퍼(Jackson)에 맡긴다
+public class StringListFormatMapper implements FormatMapper {
+
+	private final FormatMapper delegate;
+
+	public StringListFormatMapper(FormatMapper delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		if (javaType instanceof StringListJavaType) {
+			try {
+				return (T) StringListJson.parse(charSequence);
+			} catch (IllegalArgumentException e) {
+				// 문자열이 아닌 요소가 섞인 예전 데이터 등은 Jackson으로 읽는다
+				return (T) StringListJavaType.copy((List<String>) delegate.fromString(charSequence, javaType, wrapperOptions));
+			}
+		}
+		return delegate.fromString(charSequence, javaType, wrapperOptions);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		if (javaType instanceof StringListJavaType) {
+			return StringListJson.write((List<String>) value);
+		}
+		return delegate.toString(value, javaType, wrapperOptions);
+	}
+}
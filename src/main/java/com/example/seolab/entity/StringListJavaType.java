@@ -0,0 +1,119 @@
+package com.example.seolab.entity;
+
+import com.example.seolab.util.StringListJson;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+// JSON 컬럼에 저장하는 List<String> (Book.authors, translators)
+// DB에서 읽은 값은 변경 불가 리스트라 스냅샷은 같은 인스턴스를 재사용한다 (성능 수치는 아직 측정하지 않음)
+// JSON 변환은 StringListFormatMapper가 StringListJson으로 처리
+public class StringListJavaType extends AbstractClassJavaType<List<String>> {
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public StringListJavaType() {
+		super((Class) List.class, new StringListMutabilityPlan());
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+		return indicators.getJdbcType(SqlTypes.JSON);
+	}
+
+	@Override
+	public boolean areEqual(List<String> one, List<String> another) {
+		return Objects.equals(one, another);
+	}
+
+	@Override
+	public int extractHashCode(List<String> value) {
+		return Objects.hashCode(value);
+	}
+
+	@Override
+	public String toString(List<String> value) {
+		return StringListJson.write(value);
+	}
+
+	@Override
+	public List<String> fromString(CharSequence string) {
+		return StringListJson.parse(string);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> X unwrap(List<String> value, Class<X> type, WrapperOptions options) {
+		if (value == null) {
+			return null;
+		}
+		if (type.isInstance(value)) {
+			return (X) value;
+		}
+		if (String.class.equals(type)) {
+			return (X) StringListJson.write(value);
+		}
+		throw unknownUnwrap(type);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> List<String> wrap(X value, WrapperOptions options) {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof List<?> list) {
+			return copy((List<String>) list);
+		}
+		if (value instanceof CharSequence json) {
+			return StringListJson.parse(json);
+		}
+		throw unknownWrap(value.getClass());
+	}
+
+	// 이미 변경 불가 리스트(List.of/copyOf)면 List.copyOf가 같은 인스턴스를 돌려준다
+	static List<String> copy(List<String> value) {
+		if (value == null) {
+			return null;
+		}
+		// List.copyOf는 null 요소를 허용하지 않는다
+		// (List.of/copyOf 리스트의 contains(null)은 NPE를 던지므로 직접 검사)
+		return value.stream().anyMatch(Objects::isNull)
+			? Collections.unmodifiableList(new ArrayList<>(value))
+			: List.copyOf(value);
+	}
+
+	private static class StringListMutabilityPlan implements MutabilityPlan<List<String>> {
+
+		// 엔티티에 가변 리스트를 넣을 수도 있으므로 스냅샷은 만든다 (DB에서 읽은 값이면 복사 없음)
+		@Override
+		public boolean isMutable() {
+			return true;
+		}
+
+		@Override
+		public List<String> deepCopy(List<String> value) {
+			return copy(value);
+		}
+
+		@Override
+		public Serializable disassemble(List<String> value, SharedSessionContract session) {
+			return (Serializable) copy(value);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<String> assemble(Serializable cached, SharedSessionContract session) {
+			return (List<String>) cached;
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.example.seolab.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// insert 전에 Tsid로 ID를 채운다 (IDENTITY와 달리 배치 insert 가능)
+@IdGeneratorType(TsidIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
@@ -0,0 +1,5 @@
+package com.example.seolab.event;
+
+// 카탈로그에 새 책이 저장되었을 때 발행 (트랜잭션 커밋 후 처리)
+public record BookCreatedEvent(Long bookId, String thumbnail) {
+}
@@ -0,0 +1,26 @@
+package com.example.seolab.repository;
+
+import com.example.seolab.entity.BookAuthor;
+import com.example.seolab.repository.projection.CatalogBookSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookAuthorRepository extends JpaRepository<BookAuthor, BookAuthor.Key> {
+
+	// 저자별 책 목록: (normalized_name, book_id) 인덱스를 bookId 내림차순으로 이어서 읽는다
+	@Query("SELECT b.bookId AS bookId, b.title AS title, b.authors AS authors, b.publisher AS publisher, " +
+		"b.isbn AS isbn, b.publishedDate AS publishedDate, b.thumbnail AS thumbnail, b.placeholder AS placeholder " +
+		"FROM BookAuthor a " +
+		"JOIN Book b ON b.bookId = a.bookId " +
+		"WHERE a.normalizedName = :normalizedName " +
+		"AND a.bookId < :cursor " +
+		"ORDER BY a.bookId DESC")
+	List<CatalogBookSummary> findBooksByAuthor(@Param("normalizedName") String normalizedName,
+		@Param("cursor") Long cursor, Pageable pageable);
+}
@@ -0,0 +1,292 @@
+package com.example.seolab.repository;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.entity.Book;
+import com.example.seolab.util.AuthorNames;
+import com.example.seolab.util.BookFingerprint;
+import com.example.seolab.util.IsbnUtils;
+import com.example.seolab.util.StringListJson;
+import com.example.seolab.util.Tsid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// JPA를 거치지 않는 쓰기 전용 (JDBC batch, upsert)
+@Repository
+@RequiredArgsConstructor
+public class BookJdbcRepository {
+
+	// 같은 ISBN(정규화 이전 ISBN-10 포함)의 책이 이미 있으면 넣지 않는다
+	// unique_isbn은 ISBN-10/13 형태가 다른 행을 막지 못하고, 기동 시 제약 추가에 실패했을 수도 있어 유지한다
+	private static final String INSERT_SELECT =
+		"INSERT INTO books " +
+			"(book_id, title, authors, publisher, isbn, contents, thumbnail, published_date, translators, fingerprint, " +
+			"created_at) SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? FROM DUAL " +
+			"WHERE NOT EXISTS (SELECT 1 FROM books b WHERE b.isbn IN (?, ?))";
+
+	// 유니크 키(isbn, unique_book)가 겹치면 아무것도 바꾸지 않는다
+	private static final String INSERT_IF_ABSENT_SQL =
+		INSERT_SELECT + " ON DUPLICATE KEY UPDATE books.book_id = books.book_id";
+
+	// 겹치면 기존 행의 book_id를 LAST_INSERT_ID로 돌려받아 한 번의 왕복으로 insert-or-get
+	// (새로 들어간 경우엔 드라이버가 키를 돌려주지 않거나 직접 넣은 ID를 돌려준다)
+	// unique_book으로 겹치면 ISBN이 다른 행이, NOT EXISTS로 건너뛰면 없는 ID가 돌아오므로 호출 측에서 확인한다
+	private static final String UPSERT_SQL =
+		INSERT_SELECT + " ON DUPLICATE KEY UPDATE books.book_id = LAST_INSERT_ID(books.book_id)";
+
+	private static final String UPDATE_FINGERPRINT_SQL =
+		"UPDATE books SET fingerprint = ? WHERE book_id = ?";
+
+	private static final String UPDATE_PLACEHOLDER_SQL =
+		"UPDATE books SET placeholder = ? WHERE book_id = ?";
+
+	// 이미 값이 있는 컬럼은 덮어쓰지 않는다
+	private static final String UPDATE_METADATA_SQL =
+		"UPDATE books SET isbn = COALESCE(isbn, ?), thumbnail = COALESCE(thumbnail, ?), " +
+			"published_date = COALESCE(published_date, ?), metadata_checked_at = ? WHERE book_id = ?";
+
+	private static final String DELETE_SQL =
+		"DELETE FROM books WHERE book_id = ?";
+
+	// 책 행이 실제로 있을 때만 넣는다 (upsert가 기존 행을 돌려준 경우 새로 만든 ID로는 아무것도 넣지 않음)
+	private static final String INSERT_AUTHOR_SQL =
+		"INSERT INTO book_authors (book_id, normalized_name, name, author_order) " +
+			"SELECT b.book_id, ?, ?, ? FROM books b WHERE b.book_id = ? " +
+			"AND NOT EXISTS (SELECT 1 FROM book_authors a WHERE a.book_id = b.book_id AND a.normalized_name = ?)";
+
+	private static final String DELETE_AUTHORS_SQL =
+		"DELETE FROM book_authors WHERE book_id = ?";
+
+	private static final String UPDATE_ISBN_SQL =
+		"UPDATE books SET isbn = ? WHERE book_id = ?";
+
+	private static final String COUNT_INDEX_SQL =
+		"SELECT COUNT(*) FROM information_schema.statistics " +
+			"WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = ?";
+
+	private static final String COUNT_DUPLICATE_ISBNS_SQL =
+		"SELECT COUNT(*) FROM (SELECT isbn FROM books WHERE isbn IS NOT NULL GROUP BY isbn HAVING COUNT(*) > 1) d";
+
+	private static final String ADD_UNIQUE_ISBN_SQL =
+		"ALTER TABLE books ADD CONSTRAINT unique_isbn UNIQUE (isbn)";
+
+	// 13자리 숫자가 아닌 ISBN (정규화 이전에 저장된 ISBN-10 등)
+	private static final String FIND_NON_ISBN13_SQL =
+		"SELECT book_id, isbn FROM books " +
+			"WHERE book_id > ? AND isbn IS NOT NULL AND isbn NOT REGEXP '^[0-9]{13}$' " +
+			"ORDER BY book_id LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile Boolean mySql;
+
+	// 반환값: 드라이버가 보고한 영향 받은 행 수 (드라이버 설정에 따라 정확하지 않을 수 있어 로그용)
+	public int insertIfAbsent(List<BookDto> books) {
+		if (books.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		Map<Long, List<String>> authorsByBookId = new LinkedHashMap<>();
+		List<Map.Entry<Long, BookDto>> rows = new ArrayList<>(books.size());
+		for (BookDto book : books) {
+			long bookId = Tsid.next();
+			rows.add(Map.entry(bookId, book));
+			authorsByBookId.put(bookId, book.getAuthors());
+		}
+
+		int[][] results = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows, rows.size(), (ps, row) -> {
+			BookDto book = row.getValue();
+			bind(ps, row.getKey(), book.getTitle(), book.getAuthors(), book.getPublisher(), book.getIsbn(),
+				book.getContents(), book.getThumbnail(), book.getPublishedDate(), book.getTranslators(), now);
+		});
+		// 이미 있던 책은 새 ID로 들어가지 않았으므로 저자 행도 생기지 않는다
+		insertAuthors(authorsByBookId);
+
+		return Arrays.stream(results)
+			.flatMapToInt(Arrays::stream)
+			.filter(count -> count > 0)
+			.sum();
+	}
+
+	// MySQL에서만 사용 (ON DUPLICATE KEY, LAST_INSERT_ID)
+	public boolean supportsUpsert() {
+		Boolean cached = mySql;
+		if (cached == null) {
+			cached = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+				connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql"));
+			mySql = cached;
+		}
+		return Boolean.TRUE.equals(cached);
+	}
+
+	// 책을 추가하거나, 유니크 키가 같은 책이 이미 있으면 그 ID를 반환
+	// 동시에 같은 책을 추가해도 한 번의 왕복으로 끝나고 제약 위반으로 실패하지 않는다
+	public Long upsert(Book book) {
+		long newBookId = Tsid.next();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+			bind(ps, newBookId, book.getTitle(), book.getAuthors(), book.getPublisher(), book.getIsbn(),
+				book.getContents(), book.getThumbnail(), book.getPublishedDate(), book.getTranslators(), now);
+			return ps;
+		}, keyHolder);
+
+		insertAuthors(Map.of(newBookId, book.getAuthors() != null ? book.getAuthors() : List.of()));
+
+		Number key = keyHolder.getKeyList().isEmpty() ? null : keyHolder.getKey();
+		return key != null && key.longValue() != 0 ? key.longValue() : newBookId;
+	}
+
+	// 저자 색인(book_authors) 기록: 책 행이 있고 아직 없는 저자만 넣으므로 여러 번 호출해도 안전
+	public void insertAuthors(Map<Long, List<String>> authorsByBookId) {
+		List<Object[]> rows = new ArrayList<>();
+		authorsByBookId.forEach((bookId, authors) -> {
+			int order = 0;
+			for (Map.Entry<String, String> author : AuthorNames.distinct(authors).entrySet()) {
+				rows.add(new Object[]{author.getKey(), author.getValue(), order++, bookId, author.getKey()});
+			}
+		});
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_AUTHOR_SQL, rows);
+		}
+	}
+
+	// 반환값: 배치 결과가 모두 0이면 0, 아니면 요청한 행 수 (드라이버가 건수를 알려주지 않을 수 있음)
+	public int updateFingerprints(Map<Long, String> fingerprints) {
+		if (fingerprints.isEmpty()) {
+			return 0;
+		}
+
+		List<Map.Entry<Long, String>> entries = List.copyOf(fingerprints.entrySet());
+		int[][] results = jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT_SQL, entries, entries.size(), (ps, entry) -> {
+			ps.setString(1, entry.getValue());
+			ps.setLong(2, entry.getKey());
+		});
+
+		boolean applied = Arrays.stream(results)
+			.flatMapToInt(Arrays::stream)
+			.anyMatch(count -> count != 0);
+		return applied ? entries.size() : 0;
+	}
+
+	// JPQL 벌크 업데이트는 Book 2차 캐시 영역 전체를 비우므로 JDBC로 한 행만 갱신한다 (호출 측에서 해당 항목 evict)
+	public int updatePlaceholder(Long bookId, String placeholder) {
+		return jdbcTemplate.update(UPDATE_PLACEHOLDER_SQL, placeholder, bookId);
+	}
+
+	// 보강 결과를 한 번의 배치로 반영 (못 찾은 책도 확인 시각은 기록)
+	public void updateMetadata(List<MetadataUpdate> updates, LocalDateTime checkedAt) {
+		if (updates.isEmpty()) {
+			return;
+		}
+
+		Timestamp checkedAtTimestamp = Timestamp.valueOf(checkedAt);
+		jdbcTemplate.batchUpdate(UPDATE_METADATA_SQL, updates, updates.size(), (ps, update) -> {
+			ps.setString(1, update.isbn());
+			ps.setString(2, update.thumbnail());
+			ps.setDate(3, update.publishedDate() != null ? Date.valueOf(update.publishedDate()) : null);
+			ps.setTimestamp(4, checkedAtTimestamp);
+			ps.setLong(5, update.bookId());
+		});
+	}
+
+	// 중복 책 병합: 참조를 모두 옮긴 뒤 호출 (호출 측에서 캐시 evict)
+	public void deleteBooks(List<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(DELETE_AUTHORS_SQL, bookIds, bookIds.size(), (ps, bookId) -> ps.setLong(1, bookId));
+		jdbcTemplate.batchUpdate(DELETE_SQL, bookIds, bookIds.size(), (ps, bookId) -> ps.setLong(1, bookId));
+	}
+
+	public int updateIsbn(Long bookId, String isbn) {
+		return jdbcTemplate.update(UPDATE_ISBN_SQL, isbn, bookId);
+	}
+
+	// MySQL에서만 사용 (information_schema)
+	public boolean hasIndex(String indexName) {
+		Long count = jdbcTemplate.queryForObject(COUNT_INDEX_SQL, Long.class, indexName);
+		return count != null && count > 0;
+	}
+
+	// 두 행 이상에 저장된 ISBN 수
+	public long countDuplicateIsbns() {
+		Long count = jdbcTemplate.queryForObject(COUNT_DUPLICATE_ISBNS_SQL, Long.class);
+		return count != null ? count : 0;
+	}
+
+	public void addUniqueIsbnConstraint() {
+		jdbcTemplate.execute(ADD_UNIQUE_ISBN_SQL);
+	}
+
+	// MySQL에서만 사용 (REGEXP), bookId 기준 키셋 페이징
+	public List<IsbnRow> findNonIsbn13After(long bookId, int limit) {
+		return jdbcTemplate.query(FIND_NON_ISBN13_SQL,
+			(rs, rowNum) -> new IsbnRow(rs.getLong("book_id"), rs.getString("isbn")), bookId, limit);
+	}
+
+	public record IsbnRow(Long bookId, String isbn) {
+	}
+
+	// null인 필드는 기존 값을 유지
+	public record MetadataUpdate(Long bookId, String isbn, String thumbnail, LocalDate publishedDate) {
+
+		public boolean hasChanges() {
+			return isbn != null || thumbnail != null || publishedDate != null;
+		}
+
+		public MetadataUpdate withoutIsbn() {
+			return new MetadataUpdate(bookId, null, thumbnail, publishedDate);
+		}
+	}
+
+	private void bind(PreparedStatement ps, long bookId, String title, List<String> authors, String publisher,
+		String isbn, String contents, String thumbnail, LocalDate publishedDate, List<String> translators,
+		Timestamp now) throws SQLException {
+
+		String firstAuthor = authors != null && !authors.isEmpty() ? authors.get(0) : "";
+		ps.setLong(1, bookId);
+		ps.setString(2, title);
+		ps.setString(3, toJson(authors));
+		ps.setString(4, publisher);
+		ps.setString(5, isbn);
+		ps.setString(6, contents);
+		ps.setString(7, thumbnail);
+		ps.setDate(8, publishedDate != null ? Date.valueOf(publishedDate) : null);
+		ps.setString(9, toJson(translators));
+		ps.setString(10, BookFingerprint.of(title, firstAuthor, publisher));
+		ps.setTimestamp(11, now);
+		// NOT EXISTS 조건: ISBN-13과 정규화 이전 형태(ISBN-10)
+		ps.setString(12, isbn);
+		ps.setString(13, legacyIsbn(isbn));
+	}
+
+	private String legacyIsbn(String isbn) {
+		List<String> candidates = IsbnUtils.legacyCandidates(isbn);
+		return candidates.isEmpty() ? isbn : candidates.get(0);
+	}
+
+	// 엔티티 매핑(StringListJavaType)과 같은 형식으로 저장
+	private String toJson(List<String> values) {
+		return StringListJson.write(values != null ? values : List.of());
+	}
+}
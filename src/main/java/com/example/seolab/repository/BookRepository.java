@@ -1,20 +1,82 @@
 package com.example.seolab.repository;
 
 import com.example.seolab.entity.Book;
+import com.example.seolab.repository.projection.BookAuthorNames;
+import com.example.seolab.repository.projection.BookMergeCandidate;
+import com.example.seolab.repository.projection.BookTitleAuthors;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
 	// 단순 필드 검색은 기존 JPA 메소드명 방식 유지
 	Optional<Book> findByIsbn(String isbn);
 	boolean existsByIsbn(String isbn);
 
+	// 정규화 이전에 저장된 ISBN(ISBN-10 등) 조회
+	Optional<Book> findFirstByIsbnIn(Collection<String> isbns);
+
+	// upsert 직후 다른 트랜잭션이 먼저 커밋한 행도 보이도록 잠금 읽기로 조회
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT b FROM Book b WHERE b.bookId = :bookId")
+	Optional<Book> findByIdForShare(@Param("bookId") Long bookId);
+
+	// upsert가 다른 책을 돌려줬을 때 ISBN으로 다시 찾기 (잠금 읽기라 동시에 커밋된 행도 보인다)
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT b FROM Book b WHERE b.isbn IN :isbns ORDER BY b.bookId")
+	List<Book> findByIsbnInForShare(@Param("isbns") Collection<String> isbns);
+
+	// ISBN이 없는 책 중복 확인 (fingerprint 인덱스 조회)
+	Optional<Book> findFirstByFingerprint(String fingerprint);
+
+	// fingerprint 백필 대상
+	List<Book> findByFingerprintIsNull(Pageable pageable);
+
+	// 로컬 카탈로그 검색용
+	List<Book> findByTitleContaining(String title, Pageable pageable);
+
+	// 맞춤법 사전 구축용 (제목, 저자만 bookId 순으로 이어서 조회)
+	@Query("SELECT b.bookId AS bookId, b.title AS title, b.authors AS authors FROM Book b " +
+		"WHERE b.bookId > :bookId ORDER BY b.bookId ASC")
+	List<BookTitleAuthors> findTitleAuthorsAfter(@Param("bookId") Long bookId, Pageable pageable);
+
+	// 플레이스홀더 생성 대상: 서재에 담긴 책만 (bookId 순으로 이어서 처리)
+	// 검색 결과로 쌓이는 카탈로그 행까지 표지를 받으면 썸네일 저장소가 끝없이 커진다
+	@Query("SELECT b FROM Book b " +
+		"WHERE b.bookId > :bookId AND b.placeholder IS NULL AND b.thumbnail IS NOT NULL " +
+		"AND EXISTS (SELECT 1 FROM UserBook ub WHERE ub.book = b) " +
+		"ORDER BY b.bookId ASC")
+	List<Book> findOwnedWithoutPlaceholderAfter(@Param("bookId") Long bookId, Pageable pageable);
+
+	// 메타데이터 보강 대상: 비어 있는 필드가 있고 최근에 확인하지 않은 책
+	@Query("SELECT b FROM Book b " +
+		"WHERE (b.isbn IS NULL OR b.thumbnail IS NULL OR b.publishedDate IS NULL) " +
+		"AND (b.metadataCheckedAt IS NULL OR b.metadataCheckedAt < :checkedBefore) " +
+		"ORDER BY b.bookId ASC")
+	List<Book> findMetadataEnrichmentCandidates(@Param("checkedBefore") LocalDateTime checkedBefore,
+		Pageable pageable);
+
+	// 중복 책 병합용 (ID, ISBN, fingerprint만 bookId 순으로)
+	List<BookMergeCandidate> findByBookIdGreaterThanOrderByBookIdAsc(Long bookId, Pageable pageable);
+
+	// book_authors 행이 없는 책 (저자 색인 보정용, bookId 순으로 이어서 처리)
+	@Query("SELECT b.bookId AS bookId, b.authors AS authors FROM Book b " +
+		"WHERE b.bookId > :bookId " +
+		"AND NOT EXISTS (SELECT 1 FROM BookAuthor a WHERE a.bookId = b.bookId) " +
+		"ORDER BY b.bookId ASC")
+	List<BookAuthorNames> findWithoutAuthorRows(@Param("bookId") Long bookId, Pageable pageable);
+
 	// JSON 배열 검색이 필요한 경우만 native query 사용
 	@Query(value = "SELECT * FROM books WHERE " +
 		"title = :title AND " +
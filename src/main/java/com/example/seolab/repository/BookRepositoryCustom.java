@@ -0,0 +1,11 @@
+package com.example.seolab.repository;
+
+import com.example.seolab.entity.Book;
+
+import java.util.Optional;
+
+public interface BookRepositoryCustom {
+
+	// ISBN natural id 조회 (2차 캐시 사용)
+	Optional<Book> findByNaturalIsbn(String isbn);
+}
@@ -0,0 +1,21 @@
+package com.example.seolab.repository;
+
+import com.example.seolab.entity.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+public class BookRepositoryImpl implements BookRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Optional<Book> findByNaturalIsbn(String isbn) {
+		return entityManager.unwrap(Session.class)
+			.bySimpleNaturalId(Book.class)
+			.loadOptional(isbn);
+	}
+}
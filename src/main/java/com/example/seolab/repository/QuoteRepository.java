@@ -1,11 +1,16 @@
 package com.example.seolab.repository;
 
 import com.example.seolab.entity.Quote;
+import com.example.seolab.entity.UserBook;
+import com.example.seolab.repository.projection.BookQuoteCount;
+import com.example.seolab.repository.projection.UserBookQuoteCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +40,13 @@ public interface QuoteRepository extends JpaRepository<Quote, UUID> {
 	// 특정 사용자 책의 문장 개수
 	long countByUserBookUserBookId(UUID userBookId);
 
+	// 서재 목록용: 사용자의 책별 문장 개수를 한 번에 (문장이 없는 책은 행이 없음)
+	@Query("SELECT q.userBook.userBookId AS userBookId, COUNT(q) AS quotes " +
+		"FROM Quote q " +
+		"WHERE q.userBook.user.userId = :userId " +
+		"GROUP BY q.userBook.userBookId")
+	List<UserBookQuoteCount> countQuotesByUserId(@Param("userId") Long userId);
+
 	// 특정 사용자의 최근 문장들 (홈 화면용)
 	@Query("SELECT q FROM Quote q " +
 		"WHERE q.userBook.user.userId = :userId " +
@@ -50,4 +62,16 @@ public interface QuoteRepository extends JpaRepository<Quote, UUID> {
 
 	// 특정 사용자 책의 모든 문장 조회 (최신순)
 	List<Quote> findByUserBookUserBookIdOrderByCreatedAtDesc(UUID userBookId);
+
+	// 책별 전체 사용자 문장 수 (통계 보정용)
+	@Query("SELECT ub.book.bookId AS bookId, COUNT(q) AS quotes " +
+		"FROM Quote q JOIN q.userBook ub " +
+		"WHERE ub.book.bookId IN :bookIds " +
+		"GROUP BY ub.book.bookId")
+	List<BookQuoteCount> countQuotesByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+	// 중복 책 병합: 지워질 사용자 책의 문장을 남는 사용자 책으로 옮긴다
+	@Modifying
+	@Query("UPDATE Quote q SET q.userBook = :userBook WHERE q.userBook.userBookId IN :userBookIds")
+	int moveToUserBook(@Param("userBookIds") Collection<UUID> userBookIds, @Param("userBook") UserBook userBook);
 }
@@ -1,11 +1,18 @@
 package com.example.seolab.repository;
 
+import com.example.seolab.entity.Book;
 import com.example.seolab.entity.UserBook;
+import com.example.seolab.repository.projection.BookReaderCount;
+import com.example.seolab.repository.projection.OwnedBookIsbn;
+import com.example.seolab.repository.projection.UserBookOwner;
+import com.example.seolab.repository.projection.UserBookSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,15 +24,25 @@ public interface UserBookRepository extends JpaRepository<UserBook, UUID> {
 
 	boolean existsByUserUserIdAndBookBookId(Long userId, Long bookId);
 
-	// updatedAt 기준으로 변경
-	List<UserBook> findByUserUserIdOrderByUpdatedAtDesc(Long userId);
-
-	List<UserBook> findByUserUserIdAndIsReadingOrderByUpdatedAtDesc(Long userId, Boolean isReading);
-
-	List<UserBook> findByUserUserIdAndIsFavoriteTrueOrderByUpdatedAtDesc(Long userId);
-
-	List<UserBook> findByUserUserIdAndIsFavoriteTrueAndIsReadingOrderByUpdatedAtDesc(
-		Long userId, Boolean isReading);
+	// 서재 목록: 필요한 컬럼만 조회 (favoriteOnly=false면 즐겨찾기 필터 없음, reading=null이면 상태 필터 없음,
+	// author=null이면 저자 필터 없음, author는 AuthorNames.normalize 결과로 book_authors 기본 키를 조회)
+	@Query("SELECT ub.userBookId AS userBookId, b.bookId AS bookId, b.title AS title, b.isbn AS isbn, " +
+		"b.publishedDate AS publishedDate, b.authors AS authors, b.publisher AS publisher, " +
+		"b.translators AS translators, b.thumbnail AS thumbnail, b.placeholder AS placeholder, " +
+		"ub.endDate AS endDate, ub.isFavorite AS isFavorite, ub.isReading AS isReading, " +
+		"ub.createdAt AS createdAt, ub.updatedAt AS updatedAt " +
+		"FROM UserBook ub " +
+		"JOIN ub.book b " +
+		"WHERE ub.user.userId = :userId " +
+		"AND (:favoriteOnly = false OR ub.isFavorite = true) " +
+		"AND (:reading IS NULL OR ub.isReading = :reading) " +
+		"AND (:author IS NULL OR EXISTS (" +
+		"SELECT 1 FROM BookAuthor a WHERE a.bookId = b.bookId AND a.normalizedName = :author)) " +
+		"ORDER BY ub.updatedAt DESC")
+	List<UserBookSummary> findSummariesByUserId(@Param("userId") Long userId,
+		@Param("favoriteOnly") boolean favoriteOnly,
+		@Param("reading") Boolean reading,
+		@Param("author") String author);
 
 	long countByUserUserIdAndIsReading(Long userId, Boolean isReading);
 
@@ -40,4 +57,44 @@ public interface UserBookRepository extends JpaRepository<UserBook, UUID> {
 
 	// updated_at 기준으로 가장 최근 책 1개 조회
 	Optional<UserBook> findTopByUserUserIdOrderByUpdatedAtDesc(Long userId);
+
+	// 검색 결과 ISBN 중 사용자가 이미 가진 책 (한 번의 IN 쿼리)
+	@Query("SELECT ub.userBookId AS userBookId, b.isbn AS isbn FROM UserBook ub " +
+		"JOIN ub.book b " +
+		"WHERE ub.user.userId = :userId " +
+		"AND b.isbn IN :isbns")
+	List<OwnedBookIsbn> findOwnedBooksByIsbns(@Param("userId") Long userId,
+		@Param("isbns") Collection<String> isbns);
+
+	@Query("SELECT b.isbn FROM UserBook ub " +
+		"JOIN ub.book b " +
+		"WHERE ub.user.userId = :userId " +
+		"AND b.isbn IS NOT NULL")
+	List<String> findIsbnsByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT DISTINCT ub.user.userId FROM UserBook ub WHERE ub.book.bookId IN :bookIds")
+	List<Long> findUserIdsByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+	// 책별 독자 수 / 완독 수 (통계 보정용)
+	@Query("SELECT ub.book.bookId AS bookId, COUNT(ub) AS readers, " +
+		"SUM(CASE WHEN ub.isReading = false THEN 1 ELSE 0 END) AS finished " +
+		"FROM UserBook ub " +
+		"WHERE ub.book.bookId IN :bookIds " +
+		"GROUP BY ub.book.bookId")
+	List<BookReaderCount> countReadersByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+	// 중복 책 병합: 대상 책들의 사용자 책
+	@Query("SELECT ub.userBookId AS userBookId, ub.user.userId AS userId, ub.book.bookId AS bookId, " +
+		"ub.createdAt AS createdAt " +
+		"FROM UserBook ub " +
+		"WHERE ub.book.bookId IN :bookIds")
+	List<UserBookOwner> findOwnersByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+	@Modifying
+	@Query("UPDATE UserBook ub SET ub.book = :book WHERE ub.book.bookId IN :bookIds")
+	int repointBooks(@Param("bookIds") Collection<Long> bookIds, @Param("book") Book book);
+
+	@Modifying
+	@Query("DELETE FROM UserBook ub WHERE ub.userBookId IN :userBookIds")
+	int deleteByUserBookIds(@Param("userBookIds") Collection<UUID> userBookIds);
 }
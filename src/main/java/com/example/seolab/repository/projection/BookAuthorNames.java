@@ -0,0 +1,9 @@
+package com.example.seolab.repository.projection;
+
+import java.util.List;
+
+public interface BookAuthorNames {
+	Long getBookId();
+
+	List<String> getAuthors();
+}
@@ -0,0 +1,9 @@
+package com.example.seolab.repository.projection;
+
+public interface BookMergeCandidate {
+	Long getBookId();
+
+	String getIsbn();
+
+	String getFingerprint();
+}
@@ -0,0 +1,7 @@
+package com.example.seolab.repository.projection;
+
+public interface BookQuoteCount {
+	Long getBookId();
+
+	Long getQuotes();
+}
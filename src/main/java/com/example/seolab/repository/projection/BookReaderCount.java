@@ -0,0 +1,9 @@
+package com.example.seolab.repository.projection;
+
+public interface BookReaderCount {
+	Long getBookId();
+
+	Long getReaders();
+
+	Long getFinished();
+}
@@ -0,0 +1,11 @@
+package com.example.seolab.repository.projection;
+
+import java.util.List;
+
+public interface BookTitleAuthors {
+	Long getBookId();
+
+	String getTitle();
+
+	List<String> getAuthors();
+}
@@ -0,0 +1,23 @@
+package com.example.seolab.repository.projection;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 카탈로그 목록용 (contents 제외)
+public interface CatalogBookSummary {
+	Long getBookId();
+
+	String getTitle();
+
+	List<String> getAuthors();
+
+	String getPublisher();
+
+	String getIsbn();
+
+	LocalDate getPublishedDate();
+
+	String getThumbnail();
+
+	String getPlaceholder();
+}
@@ -0,0 +1,14 @@
+package com.example.seolab.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserBookOwner {
+	UUID getUserBookId();
+
+	Long getUserId();
+
+	Long getBookId();
+
+	LocalDateTime getCreatedAt();
+}
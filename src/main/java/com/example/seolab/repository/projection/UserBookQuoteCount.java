@@ -0,0 +1,9 @@
+package com.example.seolab.repository.projection;
+
+import java.util.UUID;
+
+public interface UserBookQuoteCount {
+	UUID getUserBookId();
+
+	Long getQuotes();
+}
@@ -0,0 +1,39 @@
+package com.example.seolab.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 서재 목록용 (books.contents 같은 큰 컬럼은 읽지 않는다)
+public interface UserBookSummary {
+	UUID getUserBookId();
+
+	Long getBookId();
+
+	String getTitle();
+
+	String getIsbn();
+
+	LocalDate getPublishedDate();
+
+	List<String> getAuthors();
+
+	String getPublisher();
+
+	List<String> getTranslators();
+
+	String getThumbnail();
+
+	String getPlaceholder();
+
+	LocalDate getEndDate();
+
+	Boolean getIsFavorite();
+
+	Boolean getIsReading();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,81 @@
+package com.example.seolab.service;
+
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.projection.BookAuthorNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// book_authors 행이 없는 책의 저자 색인을 채운다
+// (테이블 추가 이전의 책, 책 저장 후 저자 기록이 실패한 경우 등) 기동 시 한 번, 이후 주기적으로 실행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookAuthorBackfillService implements ApplicationRunner {
+
+	private final BookRepository bookRepository;
+	private final BookJdbcRepository bookJdbcRepository;
+
+	@Value("${book.authors.backfill.enabled:true}")
+	private boolean enabled;
+
+	@Value("${book.authors.backfill.batch-size:500}")
+	private int batchSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (enabled) {
+			backfill();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${book.authors.backfill.interval-ms:3600000}",
+		initialDelayString = "${book.authors.backfill.interval-ms:3600000}")
+	public void scheduledBackfill() {
+		if (enabled) {
+			backfill();
+		}
+	}
+
+	// 저자가 없는 책은 계속 대상에 남으므로 bookId 순으로 한 바퀴만 돈다
+	public synchronized int backfill() {
+		int total = 0;
+		long lastBookId = Long.MIN_VALUE;
+		while (true) {
+			List<BookAuthorNames> books = bookRepository.findWithoutAuthorRows(lastBookId, PageRequest.of(0, batchSize));
+			if (books.isEmpty()) {
+				break;
+			}
+
+			Map<Long, List<String>> authorsByBookId = new LinkedHashMap<>();
+			for (BookAuthorNames book : books) {
+				authorsByBookId.put(book.getBookId(), book.getAuthors() != null ? book.getAuthors() : List.of());
+			}
+			lastBookId = books.get(books.size() - 1).getBookId();
+
+			try {
+				bookJdbcRepository.insertAuthors(authorsByBookId);
+				total += authorsByBookId.size();
+			} catch (DataAccessException e) {
+				// 같은 책을 저장 경로가 동시에 기록한 경우 등: 남은 행은 다음 주기에 다시 채운다
+				log.warn("Failed to backfill authors for books up to {}", lastBookId, e);
+			}
+		}
+
+		if (total > 0) {
+			log.info("Backfilled author index for {} books", total);
+		}
+		return total;
+	}
+}
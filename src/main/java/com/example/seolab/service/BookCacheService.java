@@ -0,0 +1,91 @@
+package com.example.seolab.service;
+
+import com.example.seolab.config.HibernateCacheConfig;
+import com.example.seolab.dto.response.CacheStatsResponse;
+import com.example.seolab.entity.Book;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// Book 2차 캐시 무효화와 통계 (JDBC로 직접 고친 행은 Hibernate가 모르므로 여기서 evict)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookCacheService {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	// 엔티티 항목만 지운다. ISBN(natural id)을 JDBC로 바꾸거나 책을 지운 경우
+	// ISBN → bookId 항목이 남으므로 바뀌기 전/후 ISBN으로 evictIsbns도 호출해야 한다
+	public void evict(Long bookId) {
+		entityManagerFactory.getCache().evict(Book.class, bookId);
+	}
+
+	// natural-id 캐시(ISBN → bookId) 항목 삭제
+	public void evictIsbns(Collection<String> isbns) {
+		List<String> targets = isbns.stream().filter(Objects::nonNull).distinct().toList();
+		if (targets.isEmpty()) {
+			return;
+		}
+
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Book.class);
+		NaturalIdDataAccess naturalIdCache = persister.getNaturalIdCacheAccessStrategy();
+		if (naturalIdCache == null) {
+			// 2차 캐시를 끈 경우
+			return;
+		}
+
+		// 캐시 키를 만드는 데만 세션이 필요하다 (커넥션은 사용하지 않음)
+		try (Session session = sessionFactory.openSession()) {
+			SharedSessionContractImplementor sessionImplementor = session.unwrap(SharedSessionContractImplementor.class);
+			for (String isbn : targets) {
+				naturalIdCache.evict(naturalIdCache.generateCacheKey(isbn, persister, sessionImplementor));
+			}
+		}
+	}
+
+	public void evictAll() {
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictEntityData(Book.class);
+		sessionFactory.getCache().evictNaturalIdData(Book.class);
+		log.info("Evicted all book cache entries");
+	}
+
+	public List<CacheStatsResponse> getStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		return List.of(
+			toResponse(HibernateCacheConfig.BOOK_REGION, statistics),
+			toResponse(HibernateCacheConfig.BOOK_NATURAL_ID_REGION, statistics)
+		);
+	}
+
+	private CacheStatsResponse toResponse(String region, Statistics statistics) {
+		CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+		long hits = regionStatistics.getHitCount();
+		long misses = regionStatistics.getMissCount();
+		long lookups = hits + misses;
+
+		return CacheStatsResponse.builder()
+			.region(region)
+			.hitCount(hits)
+			.missCount(misses)
+			.putCount(regionStatistics.getPutCount())
+			.hitRatio(lookups > 0 ? (double) hits / lookups : 0.0)
+			.statisticsEnabled(statistics.isStatisticsEnabled())
+			.build();
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.seolab.service;
+
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.util.BookFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// fingerprint 컬럼 추가 이전에 저장된 책을 기동 시 채운다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookFingerprintBackfillService implements ApplicationRunner {
+
+	private final BookRepository bookRepository;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final BookCacheService bookCacheService;
+
+	@Value("${book.fingerprint.backfill.enabled:true}")
+	private boolean enabled;
+
+	@Value("${book.fingerprint.backfill.batch-size:500}")
+	private int batchSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (enabled) {
+			backfill();
+		}
+	}
+
+	public int backfill() {
+		int total = 0;
+		while (true) {
+			List<Book> books = bookRepository.findByFingerprintIsNull(PageRequest.of(0, batchSize));
+			if (books.isEmpty()) {
+				break;
+			}
+
+			Map<Long, String> fingerprints = new LinkedHashMap<>();
+			for (Book book : books) {
+				fingerprints.put(book.getBookId(),
+					BookFingerprint.of(book.getTitle(), book.getFirstAuthor(), book.getPublisher()));
+			}
+
+			int updated = bookJdbcRepository.updateFingerprints(fingerprints);
+			total += fingerprints.size();
+			// 갱신이 반영되지 않으면 같은 행을 계속 읽게 되므로 중단
+			if (updated == 0) {
+				log.warn("Fingerprint backfill made no progress, stopping");
+				break;
+			}
+		}
+
+		if (total > 0) {
+			// JDBC로 갱신했으므로 캐시된 Book은 비운다
+			bookCacheService.evictAll();
+			log.info("Backfilled fingerprints for {} books", total);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.seolab.service;
+
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookJdbcRepository.IsbnRow;
+import com.example.seolab.util.IsbnUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// books.unique_isbn 확인
+// ddl-auto=update는 중복 ISBN이 남아 있으면 제약 추가에 실패해도 경고만 남기고 넘어가므로
+// 기동 시 정규화 이전 ISBN을 ISBN-13으로 바꾼 뒤, 제약이 실제로 있는지 확인하고 중복이 없으면 직접 추가한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookIsbnConstraintService implements ApplicationRunner {
+
+	private static final String INDEX_NAME = "unique_isbn";
+
+	private final BookJdbcRepository bookJdbcRepository;
+	private final BookCacheService bookCacheService;
+
+	@Value("${catalog.isbn-backfill.enabled:true}")
+	private boolean backfillEnabled;
+
+	@Value("${catalog.isbn-backfill.page-size:500}")
+	private int backfillPageSize;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (backfillEnabled) {
+			normalizeLegacyIsbns();
+		}
+		ensureConstraint();
+	}
+
+	// 정규화 이전에 ISBN-10 등으로 저장된 행을 ISBN-13으로 바꾼다 (반환값: 바꾼 행 수)
+	// 같은 ISBN-13의 행이 이미 있으면 제약이 있을 땐 건너뛰고, 없을 땐 중복으로 남겨 병합 작업에 맡긴다
+	public int normalizeLegacyIsbns() {
+		if (!bookJdbcRepository.supportsUpsert()) {
+			return 0;
+		}
+
+		int updated = 0;
+		int skipped = 0;
+		long lastBookId = 0;
+		try {
+			List<IsbnRow> rows;
+			do {
+				rows = bookJdbcRepository.findNonIsbn13After(lastBookId, backfillPageSize);
+				for (IsbnRow row : rows) {
+					lastBookId = row.bookId();
+					String normalized = IsbnUtils.normalize(row.isbn());
+					if (!IsbnUtils.isValidIsbn13(normalized) || normalized.equals(row.isbn())) {
+						continue;
+					}
+					try {
+						bookJdbcRepository.updateIsbn(row.bookId(), normalized);
+					} catch (DuplicateKeyException e) {
+						skipped++;
+						continue;
+					}
+					bookCacheService.evict(row.bookId());
+					bookCacheService.evictIsbns(List.of(row.isbn(), normalized));
+					updated++;
+				}
+			} while (rows.size() == backfillPageSize);
+		} catch (DataAccessException e) {
+			log.error("Failed to normalize legacy ISBNs after book {}", lastBookId, e);
+		}
+
+		if (updated > 0 || skipped > 0) {
+			log.info("Normalized {} legacy ISBNs to ISBN-13 ({} already stored on another row)", updated, skipped);
+		}
+		return updated;
+	}
+
+	// 제약이 있거나 새로 추가했으면 true
+	public synchronized boolean ensureConstraint() {
+		// H2(테스트)는 스키마를 새로 만들기 때문에 확인할 필요가 없다
+		if (!bookJdbcRepository.supportsUpsert()) {
+			return true;
+		}
+
+		try {
+			if (bookJdbcRepository.hasIndex(INDEX_NAME)) {
+				return true;
+			}
+
+			long duplicates = bookJdbcRepository.countDuplicateIsbns();
+			if (duplicates > 0) {
+				log.error("books.{} is missing: {} ISBNs are stored on more than one row. " +
+						"Run POST /api/admin/catalog/merge-duplicates?dryRun=false to merge them, " +
+						"the constraint is added once no duplicates remain",
+					INDEX_NAME, duplicates);
+				return false;
+			}
+
+			bookJdbcRepository.addUniqueIsbnConstraint();
+			log.info("Added missing books.{} constraint", INDEX_NAME);
+			return true;
+		} catch (DataAccessException e) {
+			// 확인과 추가 사이에 중복이 새로 들어온 경우 등
+			log.error("Failed to add books.{} constraint", INDEX_NAME, e);
+			return false;
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.BookMergeResponse;
+import com.example.seolab.dto.response.BookMergeStatusResponse;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.QuoteRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.repository.projection.BookMergeCandidate;
+import com.example.seolab.repository.projection.UserBookOwner;
+import com.example.seolab.util.BookDuplicateClusters;
+import com.example.seolab.util.BookDuplicateClusters.Cluster;
+import com.example.seolab.util.BookDuplicateClusters.Entry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 같은 판본이 여러 행으로 저장된 책을 하나로 합친다 (관리자가 실행하는 오프라인 작업)
+// 묶음 몇 개씩 짧은 트랜잭션으로 처리해 운영 중에도 잠금이 오래 가지 않도록 한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookMergeService {
+
+	private final BookRepository bookRepository;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final UserBookRepository userBookRepository;
+	private final QuoteRepository quoteRepository;
+	private final BookCacheService bookCacheService;
+	private final BookStatsService bookStatsService;
+	private final CatalogBookService catalogBookService;
+	private final OwnedBookLookupService ownedBookLookupService;
+	private final BookIsbnConstraintService bookIsbnConstraintService;
+	private final PlatformTransactionManager transactionManager;
+
+	// 병합은 수 분이 걸릴 수 있으므로 요청 스레드가 아닌 별도 스레드에서 실행 (한 번에 하나만)
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "BookMerge");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	private volatile MergeJob currentJob;
+
+	@Value("${book.merge.scan-batch-size:5000}")
+	private int scanBatchSize;
+
+	@Value("${book.merge.clusters-per-transaction:20}")
+	private int clustersPerTransaction;
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public synchronized BookMergeStatusResponse start(boolean dryRun) {
+		if ((currentJob != null && currentJob.running) || running.get()) {
+			throw new IllegalArgumentException("이미 실행 중인 병합 작업이 있습니다.");
+		}
+
+		MergeJob job = new MergeJob(dryRun);
+		currentJob = job;
+		executor.submit(() -> run(job));
+		log.info("Duplicate book merge started (dryRun={})", dryRun);
+		return toResponse(job);
+	}
+
+	public Optional<BookMergeStatusResponse> getStatus() {
+		MergeJob job = currentJob;
+		return job != null ? Optional.of(toResponse(job)) : Optional.empty();
+	}
+
+	private void run(MergeJob job) {
+		try {
+			job.result = merge(job.dryRun);
+		} catch (RuntimeException e) {
+			job.error = e.getMessage();
+			log.error("Duplicate book merge failed", e);
+		} finally {
+			job.finishedAt = LocalDateTime.now();
+			job.running = false;
+		}
+	}
+
+	// 실제 병합 (start가 별도 스레드에서 호출)
+	public BookMergeResponse merge(boolean dryRun) {
+		if (!running.compareAndSet(false, true)) {
+			throw new IllegalArgumentException("이미 실행 중인 병합 작업이 있습니다.");
+		}
+
+		try {
+			List<Entry> entries = loadEntries();
+			List<Cluster> clusters = BookDuplicateClusters.find(entries);
+			Map<Long, String> isbnByBookId = new HashMap<>();
+			entries.stream()
+				.filter(entry -> entry.isbn() != null)
+				.forEach(entry -> isbnByBookId.put(entry.bookId(), entry.isbn()));
+			int losers = clusters.stream().mapToInt(cluster -> cluster.loserIds().size()).sum();
+			log.info("Found {} duplicate clusters ({} books to merge) among {} books",
+				clusters.size(), losers, entries.size());
+
+			BookMergeResponse response = BookMergeResponse.builder()
+				.dryRun(dryRun)
+				.scannedBooks(entries.size())
+				.clusters(clusters.size())
+				.mergedBooks(losers)
+				.build();
+			if (dryRun) {
+				return response;
+			}
+
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			for (int from = 0; from < clusters.size(); from += clustersPerTransaction) {
+				List<Cluster> batch = clusters.subList(from, Math.min(from + clustersPerTransaction, clusters.size()));
+				BatchResult result = transactionTemplate.execute(status -> mergeBatch(batch));
+				afterMerge(batch, result, isbnByBookId);
+				response.setMovedUserBooks(response.getMovedUserBooks() + result.movedUserBooks());
+				response.setRemovedUserBooks(response.getRemovedUserBooks() + result.removedUserBooks());
+			}
+
+			log.info("Merged {} duplicate books ({} user books moved, {} duplicate user books removed)",
+				losers, response.getMovedUserBooks(), response.getRemovedUserBooks());
+			// 중복 ISBN 때문에 unique_isbn이 추가되지 못했다면 지금 추가
+			bookIsbnConstraintService.ensureConstraint();
+			return response;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	// 병합에 필요한 세 컬럼만 bookId 순으로 훑는다
+	private List<Entry> loadEntries() {
+		List<Entry> entries = new ArrayList<>();
+		long lastBookId = Long.MIN_VALUE;
+		while (true) {
+			List<BookMergeCandidate> page = bookRepository.findByBookIdGreaterThanOrderByBookIdAsc(
+				lastBookId, PageRequest.of(0, scanBatchSize));
+			if (page.isEmpty()) {
+				return entries;
+			}
+			for (BookMergeCandidate candidate : page) {
+				entries.add(new Entry(candidate.getBookId(), candidate.getIsbn(), candidate.getFingerprint()));
+			}
+			lastBookId = page.get(page.size() - 1).getBookId();
+		}
+	}
+
+	private BatchResult mergeBatch(List<Cluster> clusters) {
+		Map<Long, Long> winnerByBookId = new HashMap<>();
+		for (Cluster cluster : clusters) {
+			winnerByBookId.put(cluster.winnerId(), cluster.winnerId());
+			cluster.loserIds().forEach(loserId -> winnerByBookId.put(loserId, cluster.winnerId()));
+		}
+
+		// 같은 사용자가 합쳐질 책을 둘 이상 가진 경우 하나만 남기고 문장은 남는 쪽으로 옮긴다
+		List<UserBookOwner> owners = userBookRepository.findOwnersByBookIds(winnerByBookId.keySet());
+		Map<String, List<UserBookOwner>> ownersByTarget = new LinkedHashMap<>();
+		Set<Long> userIds = new HashSet<>();
+		for (UserBookOwner owner : owners) {
+			userIds.add(owner.getUserId());
+			ownersByTarget.computeIfAbsent(winnerByBookId.get(owner.getBookId()) + ":" + owner.getUserId(),
+				key -> new ArrayList<>()).add(owner);
+		}
+
+		List<UUID> removed = new ArrayList<>();
+		for (List<UserBookOwner> group : ownersByTarget.values()) {
+			if (group.size() < 2) {
+				continue;
+			}
+			UserBookOwner keeper = selectKeeper(group, winnerByBookId);
+			List<UUID> duplicates = group.stream()
+				.map(UserBookOwner::getUserBookId)
+				.filter(userBookId -> !userBookId.equals(keeper.getUserBookId()))
+				.toList();
+			quoteRepository.moveToUserBook(duplicates, userBookRepository.getReferenceById(keeper.getUserBookId()));
+			removed.addAll(duplicates);
+		}
+		if (!removed.isEmpty()) {
+			userBookRepository.deleteByUserBookIds(removed);
+		}
+
+		int moved = 0;
+		List<Long> loserIds = new ArrayList<>();
+		for (Cluster cluster : clusters) {
+			moved += userBookRepository.repointBooks(cluster.loserIds(),
+				bookRepository.getReferenceById(cluster.winnerId()));
+			loserIds.addAll(cluster.loserIds());
+		}
+		bookJdbcRepository.deleteBooks(loserIds);
+
+		// 지운 행의 ISBN이 더 이상 유니크 키에 걸리지 않으므로 남는 책을 정규화된 ISBN으로 바꾼다
+		for (Cluster cluster : clusters) {
+			if (cluster.normalizedIsbn() != null) {
+				bookJdbcRepository.updateIsbn(cluster.winnerId(), cluster.normalizedIsbn());
+			}
+		}
+
+		return new BatchResult(moved, removed.size(), userIds);
+	}
+
+	// 남는 책에 연결된 사용자 책을 우선하고, 없으면 가장 먼저 추가한 것
+	private UserBookOwner selectKeeper(List<UserBookOwner> group, Map<Long, Long> winnerByBookId) {
+		return group.stream()
+			.min(Comparator.comparing((UserBookOwner owner) ->
+					owner.getBookId().equals(winnerByBookId.get(owner.getBookId())) ? 0 : 1)
+				.thenComparing(UserBookOwner::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())))
+			.orElseThrow();
+	}
+
+	private void afterMerge(List<Cluster> clusters, BatchResult result, Map<Long, String> isbnByBookId) {
+		List<Long> bookIds = new ArrayList<>();
+		List<String> isbns = new ArrayList<>();
+		for (Cluster cluster : clusters) {
+			bookIds.add(cluster.winnerId());
+			bookIds.addAll(cluster.loserIds());
+			isbns.add(cluster.normalizedIsbn());
+		}
+		// 지운 책과 ISBN이 바뀐 책의 예전 ISBN이 natural-id 캐시에 남지 않도록
+		bookIds.forEach(bookId -> isbns.add(isbnByBookId.get(bookId)));
+
+		bookIds.forEach(bookCacheService::evict);
+		bookCacheService.evictIsbns(isbns);
+		bookStatsService.invalidate(bookIds);
+		catalogBookService.evict(bookIds);
+		// 사용자 책이 가리키는 ISBN이 바뀌었을 수 있다
+		ownedBookLookupService.onIsbnChanged(result.userIds());
+	}
+
+	private BookMergeStatusResponse toResponse(MergeJob job) {
+		return BookMergeStatusResponse.builder()
+			.dryRun(job.dryRun)
+			.running(job.running)
+			.startedAt(job.startedAt)
+			.finishedAt(job.finishedAt)
+			.result(job.result)
+			.error(job.error)
+			.build();
+	}
+
+	private static class MergeJob {
+		private final boolean dryRun;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private volatile boolean running = true;
+		private volatile LocalDateTime finishedAt;
+		private volatile BookMergeResponse result;
+		private volatile String error;
+
+		private MergeJob(boolean dryRun) {
+			this.dryRun = dryRun;
+		}
+	}
+
+	private record BatchResult(int movedUserBooks, int removedUserBooks, Set<Long> userIds) {
+	}
+}
@@ -0,0 +1,205 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookJdbcRepository.MetadataUpdate;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.service.search.KakaoBookSearchProvider;
+import com.example.seolab.util.BookFingerprint;
+import com.example.seolab.util.IsbnUtils;
+import com.example.seolab.util.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// 사용자가 일부 정보만 보내 만들어진 책의 ISBN, 표지, 출간일을 검색 API로 채운다
+@Service
+@Slf4j
+public class BookMetadataEnrichmentService {
+
+	private final BookRepository bookRepository;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final UserBookRepository userBookRepository;
+	private final KakaoBookSearchProvider kakaoBookSearchProvider;
+	private final BookCacheService bookCacheService;
+	private final OwnedBookLookupService ownedBookLookupService;
+	private final RateLimiter rateLimiter;
+
+	@Value("${book.enrichment.enabled:true}")
+	private boolean enabled;
+
+	@Value("${book.enrichment.batch-size:50}")
+	private int batchSize;
+
+	// 못 찾은 책을 다시 조회하기까지의 기간
+	@Value("${book.enrichment.recheck-days:30}")
+	private long recheckDays;
+
+	@Value("${book.enrichment.lookup-timeout-ms:5000}")
+	private long lookupTimeoutMs;
+
+	@Value("${book.enrichment.title-candidates:10}")
+	private int titleCandidates;
+
+	public BookMetadataEnrichmentService(
+		BookRepository bookRepository,
+		BookJdbcRepository bookJdbcRepository,
+		UserBookRepository userBookRepository,
+		KakaoBookSearchProvider kakaoBookSearchProvider,
+		BookCacheService bookCacheService,
+		OwnedBookLookupService ownedBookLookupService,
+		@Value("${book.enrichment.requests-per-second:2}") double requestsPerSecond) {
+		this.bookRepository = bookRepository;
+		this.bookJdbcRepository = bookJdbcRepository;
+		this.userBookRepository = userBookRepository;
+		this.kakaoBookSearchProvider = kakaoBookSearchProvider;
+		this.bookCacheService = bookCacheService;
+		this.ownedBookLookupService = ownedBookLookupService;
+		this.rateLimiter = new RateLimiter(requestsPerSecond);
+	}
+
+	@Scheduled(fixedDelayString = "${book.enrichment.interval-ms:600000}",
+		initialDelayString = "${book.enrichment.interval-ms:600000}")
+	public synchronized void enrich() {
+		if (!enabled) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<Book> books = bookRepository.findMetadataEnrichmentCandidates(
+			now.minusDays(recheckDays), PageRequest.of(0, batchSize));
+		if (books.isEmpty()) {
+			return;
+		}
+
+		List<MetadataUpdate> updates = new ArrayList<>();
+		Set<String> claimedIsbns = new HashSet<>();
+		for (Book book : books) {
+			Optional<BookDto> match;
+			try {
+				match = resolve(book);
+			} catch (WebClientResponseException.TooManyRequests e) {
+				// 쿼터를 다 쓰면 남은 책은 확인하지 않은 채로 두고 다음 주기에 이어서 처리
+				log.warn("Kakao quota exceeded during metadata enrichment, stopping this batch");
+				break;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (WebClientResponseException e) {
+				// 5xx는 일시적인 장애이므로 확인 시각을 남기지 않고 다음 주기에 다시 조회
+				if (e.getStatusCode().is5xxServerError()) {
+					log.warn("Metadata lookup failed for book {}, will retry: {}", book.getBookId(), e.getMessage());
+					continue;
+				}
+				log.warn("Metadata lookup rejected for book {}: {}", book.getBookId(), e.getMessage());
+				match = Optional.empty();
+			} catch (RuntimeException e) {
+				// 타임아웃, 연결 실패 등도 못 찾은 것으로 기록하면 recheck-days 동안 다시 보지 않으므로 건너뛴다
+				log.warn("Metadata lookup failed for book {}, will retry: {}", book.getBookId(), e.getMessage());
+				continue;
+			}
+			updates.add(toUpdate(book, match.orElse(null), claimedIsbns));
+		}
+
+		apply(updates, now);
+	}
+
+	// ISBN이 있으면 ISBN으로, 없으면 제목으로 찾아 제목/첫 저자/출판사가 같은 결과만 사용
+	private Optional<BookDto> resolve(Book book) throws InterruptedException {
+		Duration timeout = Duration.ofMillis(lookupTimeoutMs);
+
+		if (StringUtils.hasText(book.getIsbn())) {
+			rateLimiter.acquire();
+			return kakaoBookSearchProvider.lookupByIsbn(book.getIsbn()).blockOptional(timeout);
+		}
+		if (!StringUtils.hasText(book.getTitle())) {
+			return Optional.empty();
+		}
+
+		rateLimiter.acquire();
+		List<BookDto> candidates = kakaoBookSearchProvider.lookupByTitle(book.getTitle(), titleCandidates)
+			.blockOptional(timeout)
+			.orElse(List.of());
+		String fingerprint = BookFingerprint.of(book.getTitle(), book.getFirstAuthor(), book.getPublisher());
+		return candidates.stream()
+			.filter(candidate -> fingerprint.equals(BookFingerprint.of(candidate.getTitle(),
+				candidate.getAuthors() != null && !candidate.getAuthors().isEmpty() ? candidate.getAuthors().get(0) : "",
+				candidate.getPublisher())))
+			.findFirst();
+	}
+
+	private MetadataUpdate toUpdate(Book book, BookDto match, Set<String> claimedIsbns) {
+		if (match == null) {
+			return new MetadataUpdate(book.getBookId(), null, null, null);
+		}
+
+		// 다른 책이 이미 쓰는 ISBN은 채우지 않는다 (중복 책은 병합 대상으로 남긴다)
+		String isbn = null;
+		if (!StringUtils.hasText(book.getIsbn())) {
+			String candidate = IsbnUtils.normalize(match.getIsbn());
+			if (candidate != null && claimedIsbns.add(candidate)
+				&& bookRepository.findByNaturalIsbn(candidate).isEmpty()) {
+				isbn = candidate;
+			}
+		}
+
+		String thumbnail = !StringUtils.hasText(book.getThumbnail()) && StringUtils.hasText(match.getThumbnail())
+			? match.getThumbnail()
+			: null;
+
+		return new MetadataUpdate(book.getBookId(), isbn, thumbnail,
+			book.getPublishedDate() == null ? match.getPublishedDate() : null);
+	}
+
+	private void apply(List<MetadataUpdate> updates, LocalDateTime checkedAt) {
+		if (updates.isEmpty()) {
+			return;
+		}
+
+		// 재시도 전 배치에서 일부 행은 이미 ISBN이 반영됐을 수 있으므로 원래 목록 기준으로 알린다
+		// (실제로 바뀌지 않은 사용자까지 알려도 필터를 다시 만들 뿐이다)
+		List<Long> isbnFilled = updates.stream()
+			.filter(update -> update.isbn() != null)
+			.map(MetadataUpdate::bookId)
+			.toList();
+		List<String> isbnFilledValues = updates.stream()
+			.map(MetadataUpdate::isbn)
+			.filter(isbn -> isbn != null)
+			.toList();
+
+		try {
+			bookJdbcRepository.updateMetadata(updates, checkedAt);
+		} catch (DuplicateKeyException e) {
+			// 확인 후 다른 요청이 같은 ISBN으로 책을 만든 경우: ISBN만 빼고 다시 반영
+			log.warn("ISBN conflict during metadata enrichment, retrying without ISBNs");
+			updates = updates.stream().map(MetadataUpdate::withoutIsbn).toList();
+			bookJdbcRepository.updateMetadata(updates, checkedAt);
+		}
+
+		// JDBC로 고친 행은 2차 캐시에 예전 값이 남아 있으므로 모두 evict
+		updates.forEach(update -> bookCacheService.evict(update.bookId()));
+		bookCacheService.evictIsbns(isbnFilledValues);
+
+		if (!isbnFilled.isEmpty()) {
+			ownedBookLookupService.onIsbnChanged(userBookRepository.findUserIdsByBookIds(isbnFilled));
+		}
+
+		long enriched = updates.stream().filter(MetadataUpdate::hasChanges).count();
+		log.info("Enriched metadata for {} of {} books ({} ISBNs filled)", enriched, updates.size(), isbnFilled.size());
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.seolab.service;
+
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.util.BlurHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookPlaceholderService {
+
+	// 가장 작은 축소본으로 계산한다
+	private static final int SOURCE_WIDTH = 1;
+	private static final int COMPONENTS_X = 4;
+	private static final int COMPONENTS_Y = 3;
+
+	private final BookRepository bookRepository;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final ThumbnailService thumbnailService;
+	private final BookCacheService bookCacheService;
+
+	@Value("${thumbnail.placeholder.enabled:true}")
+	private boolean enabled;
+
+	@Value("${thumbnail.placeholder.batch-size:50}")
+	private int batchSize;
+
+	@Value("${thumbnail.placeholder.rescan-interval-ms:3600000}")
+	private long rescanIntervalMs;
+
+	// 마지막으로 처리한 bookId, 새 책은 뒤에 붙으므로 이어서 처리하고
+	// 실패한 책과 나중에 서재에 담긴 예전 책은 주기적으로 처음부터 다시 훑을 때 처리한다
+	private long lastBookId = 0;
+	private long lastRescanAt = 0;
+
+	@Scheduled(fixedDelayString = "${thumbnail.placeholder.interval-ms:60000}",
+		initialDelayString = "${thumbnail.placeholder.interval-ms:60000}")
+	public synchronized void fillPlaceholders() {
+		if (!enabled) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (now - lastRescanAt >= rescanIntervalMs) {
+			lastBookId = 0;
+			lastRescanAt = now;
+		}
+
+		List<Book> books = bookRepository.findOwnedWithoutPlaceholderAfter(lastBookId, PageRequest.of(0, batchSize));
+		if (books.isEmpty()) {
+			return;
+		}
+
+		int filled = 0;
+		for (Book book : books) {
+			lastBookId = book.getBookId();
+			String placeholder = computePlaceholder(book.getBookId());
+			if (placeholder != null) {
+				bookJdbcRepository.updatePlaceholder(book.getBookId(), placeholder);
+				bookCacheService.evict(book.getBookId());
+				filled++;
+			}
+		}
+		log.info("Filled {} of {} book placeholders", filled, books.size());
+	}
+
+	private String computePlaceholder(Long bookId) {
+		Optional<ThumbnailService.StoredThumbnail> thumbnail = thumbnailService.getThumbnail(bookId, SOURCE_WIDTH);
+		if (thumbnail.isEmpty()) {
+			return null;
+		}
+
+		try {
+			BufferedImage image = ImageIO.read(thumbnail.get().file().toFile());
+			return image != null ? BlurHash.encode(image, COMPONENTS_X, COMPONENTS_Y) : null;
+		} catch (IOException | RuntimeException e) {
+			log.warn("Failed to compute placeholder for book {}: {}", bookId, e.getMessage());
+			return null;
+		}
+	}
+}
@@ -1,122 +1,173 @@
 package com.example.seolab.service;
 
-import com.example.seolab.dto.external.KakaoBookSearchResponse;
 import com.example.seolab.dto.response.BookDto;
 import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.service.search.BookSearchAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.util.HtmlUtils;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookSearchService {
 
-	@Value("${kakao.api.key}")
-	private String kakaoApiKey;
+	private final BookSearchAggregator bookSearchAggregator;
+	private final SearchQueryStatsService searchQueryStatsService;
+	private final SearchResultCache searchResultCache;
+	private final OwnedBookLookupService ownedBookLookupService;
+	private final SpellingSuggestionService spellingSuggestionService;
 
-	@Value("${kakao.api.book-search-url}")
-	private String bookSearchUrl;
+	@Value("${search.spelling.auto-retry:false}")
+	private boolean autoRetryCorrection;
 
-	private final WebClient webClient;
+	private static final int DEFAULT_PAGE_SIZE = 10;
+	private static final int MAX_SUGGESTIONS = 3;
 
 	public BookSearchResponse searchBooks(String query) {
-		return searchBooks(query, null, 1, 10);
+		return searchBooks(query, null, 1, DEFAULT_PAGE_SIZE);
 	}
 
 	public BookSearchResponse searchBooks(String query, String target) {
-		return searchBooks(query, target, 1, 10);
+		return searchBooks(query, target, 1, DEFAULT_PAGE_SIZE);
 	}
 
 	public BookSearchResponse searchBooks(String query, String target, int page, int size) {
-		try {
-			log.info("Searching books with query: {}", query);
-
-			KakaoBookSearchResponse kakaoResponse = webClient.get()
-				.uri(uriBuilder -> {
-					var builder = uriBuilder
-						.path(bookSearchUrl.replace("https://dapi.kakao.com", ""))
-						.queryParam("query", query)
-						.queryParam("page", page)
-						.queryParam("size", size)
-						.queryParam("sort", "accuracy");
-
-					// target이 지정된 경우에만 추가
-					if (target != null && !target.isEmpty()) {
-						builder.queryParam("target", target);
-					}
-
-					return builder.build();
-				})
-				.header("Authorization", "KakaoAK " + kakaoApiKey)
-				.retrieve()
-				.bodyToMono(KakaoBookSearchResponse.class)
-				.block();
-
-			if (kakaoResponse == null || kakaoResponse.getDocuments() == null) {
-				log.warn("No response from Kakao API for query: {}", query);
-				return BookSearchResponse.builder()
-					.books(List.of())
-					.totalCount(0)
-					.isEnd(true)
-					.build();
-			}
+		return searchBooksAsync(query, target, page, size).block();
+	}
 
-			List<BookDto> books = kakaoResponse.getDocuments().stream()
-				.map(this::convertToBookDto)
-				.collect(Collectors.toList());
+	public BookSearchResponse searchBooks(Long userId, String query, String target, int page, int size) {
+		return searchBooksAsync(userId, query, target, page, size).block();
+	}
 
-			log.info("Found {} books for query: {}", books.size(), query);
+	// 구독이 취소되면(클라이언트 이탈, 타임아웃) 진행 중인 외부 검색 호출도 함께 취소된다
+	public Mono<BookSearchResponse> searchBooksAsync(String query, String target, int page, int size) {
+		return Mono.defer(() -> {
+				log.info("Searching books with query: {}", query);
+
+				// 다음 페이지 요청은 같은 검색으로 보고 첫 페이지만 집계
+				if (page == 1) {
+					searchQueryStatsService.recordQuery(query);
+				}
+
+				return lookupOrFetch(query, target, page, size);
+			})
+			.flatMap(response -> {
+				if (page != 1) {
+					return Mono.just(response);
+				}
+				if (response.getTotalCount() > 0) {
+					searchQueryStatsService.recordSuccessfulQuery(query);
+					return Mono.just(response);
+				}
+				return withSpellingSuggestions(query, target, size, response);
+			});
+	}
 
-			return BookSearchResponse.builder()
-				.books(books)
-				.totalCount(kakaoResponse.getMeta().getTotalCount())
-				.isEnd(kakaoResponse.getMeta().isEnd())
-				.build();
+	// 검색 결과에 사용자가 이미 가진 책 표시
+	public Mono<BookSearchResponse> searchBooksAsync(Long userId, String query, String target, int page, int size) {
+		return searchBooksAsync(query, target, page, size)
+			.publishOn(Schedulers.boundedElastic())
+			.map(response -> {
+				ownedBookLookupService.annotateOwnership(userId, response.getBooks());
+				response.setEtag(personalizedEtag(response));
+				return response;
+			});
+	}
 
-		} catch (WebClientResponseException e) {
-			log.error("Error calling Kakao API: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-			throw new RuntimeException("책 검색 중 오류가 발생했습니다.");
-		} catch (Exception e) {
-			log.error("Unexpected error during book search", e);
-			throw new RuntimeException("책 검색 중 오류가 발생했습니다.");
-		}
+	private Mono<BookSearchResponse> lookupOrFetch(String query, String target, int page, int size) {
+		// 캐시(Redis) 조회는 블로킹이므로 별도 스케줄러에서 실행
+		return Mono.fromCallable(() -> searchResultCache.get(query, target, page, size))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(cached -> {
+				if (cached.isPresent()) {
+					log.debug("Search cache hit for query: {}", query);
+					return Mono.just(cached.get());
+				}
+				return fetchAndCache(query, target, page, size);
+			});
 	}
 
-	private BookDto convertToBookDto(KakaoBookSearchResponse.Document document) {
-		return BookDto.builder()
-			.title(HtmlUtils.htmlUnescape(document.getTitle()))
-			.contents(HtmlUtils.htmlUnescape(document.getContents()))
-			.isbn(document.getIsbn())
-			.publishedDate(parseDate(document.getDatetime()))
-			.authors(document.getAuthors())
-			.publisher(document.getPublisher())
-			.translators(document.getTranslators())
-			.thumbnail(document.getThumbnail())
-			.build();
+	// 결과가 없으면 교정 검색어를 제안하고, 설정 시 첫 번째 제안으로 한 번만 재검색
+	private Mono<BookSearchResponse> withSpellingSuggestions(String query, String target, int size,
+		BookSearchResponse emptyResponse) {
+
+		List<String> suggestions = spellingSuggestionService.suggest(query, MAX_SUGGESTIONS);
+		if (suggestions.isEmpty()) {
+			return Mono.just(emptyResponse);
+		}
+		emptyResponse.setSuggestions(suggestions);
+
+		if (!autoRetryCorrection) {
+			return Mono.just(emptyResponse);
+		}
+
+		String correctedQuery = suggestions.get(0);
+		log.info("Retrying search with corrected query: {} -> {}", query, correctedQuery);
+		return lookupOrFetch(correctedQuery, target, 1, size)
+			.map(retried -> {
+				if (retried.getTotalCount() == 0) {
+					return emptyResponse;
+				}
+				retried.setCorrectedQuery(correctedQuery);
+				retried.setSuggestions(suggestions);
+				return retried;
+			});
 	}
 
-	private LocalDate parseDate(String datetime) {
-		if (datetime == null || datetime.isEmpty()) {
+	// 보유 여부, 교정 제안은 캐시된 본문 이후에 덧붙이므로 ETag에도 반영
+	private String personalizedEtag(BookSearchResponse response) {
+		if (response.getEtag() == null) {
 			return null;
 		}
 
-		try {
-			// ISO 8601 형식 파싱: 2014-11-17T00:00:00.000+09:00
-			return LocalDate.parse(datetime.substring(0, 10), DateTimeFormatter.ISO_LOCAL_DATE);
-		} catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
-			log.warn("Failed to parse date: {}", datetime);
-			return null;
+		StringBuilder variant = new StringBuilder();
+		for (BookDto book : response.getBooks()) {
+			if (book.getOwnedUserBookId() != null) {
+				variant.append(book.getOwnedUserBookId()).append(',');
+			}
+		}
+		if (response.getSuggestions() != null) {
+			variant.append(String.join(",", response.getSuggestions()));
 		}
+		if (response.getCorrectedQuery() != null) {
+			variant.append('|').append(response.getCorrectedQuery());
+		}
+		if (variant.isEmpty()) {
+			return response.getEtag();
+		}
+		return response.getEtag() + "-" + DigestUtils.md5DigestAsHex(variant.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 캐시 워밍업용: 기본 검색 조건(첫 페이지, 10개)의 결과를 미리 채운다
+	public boolean warmUpCache(String query) {
+		if (searchResultCache.contains(query, null, 1, DEFAULT_PAGE_SIZE)) {
+			return false;
+		}
+
+		fetchAndCache(query, null, 1, DEFAULT_PAGE_SIZE).block();
+		return true;
+	}
+
+	private Mono<BookSearchResponse> fetchAndCache(String query, String target, int page, int size) {
+		return bookSearchAggregator.search(query, target, page, size)
+			.publishOn(Schedulers.boundedElastic())
+			.doOnNext(response -> {
+				// 일부 provider가 빠진 결과는 캐시하지 않는다
+				if (!response.isPartial()) {
+					searchResultCache.put(query, target, page, size, response);
+				}
+			})
+			.onErrorMap(e -> {
+				log.error("Unexpected error during book search", e);
+				return new RuntimeException("책 검색 중 오류가 발생했습니다.");
+			});
 	}
 }
@@ -2,14 +2,21 @@ package com.example.seolab.service;
 
 import com.example.seolab.dto.response.BookDto;
 import com.example.seolab.entity.Book;
+import com.example.seolab.event.BookCreatedEvent;
+import com.example.seolab.repository.BookJdbcRepository;
 import com.example.seolab.repository.BookRepository;
+import com.example.seolab.util.BookFingerprint;
+import com.example.seolab.util.IsbnUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -19,20 +26,22 @@ import java.util.Optional;
 public class BookService {
 
 	private final BookRepository bookRepository;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Book findOrCreateBook(BookDto bookDto) {
 		log.info("Finding or creating book: {}", bookDto.getTitle());
 
-		// 1. ISBN으로 먼저 찾기 (있는 경우)
-		String firstIsbn = extractFirstIsbn(bookDto.getIsbn());
-		if (StringUtils.hasText(firstIsbn)) {
-			Optional<Book> existingByIsbn = bookRepository.findByIsbn(firstIsbn);
+		// 1. ISBN으로 먼저 찾기 (있는 경우, ISBN-13으로 정규화)
+		String isbn = IsbnUtils.normalize(bookDto.getIsbn());
+		if (StringUtils.hasText(isbn)) {
+			Optional<Book> existingByIsbn = findByIsbnWithLegacy(isbn, bookDto.getIsbn());
 			if (existingByIsbn.isPresent()) {
-				log.info("Found existing book by ISBN: {}", firstIsbn);
+				log.info("Found existing book by ISBN: {}", isbn);
 				return existingByIsbn.get();
 			}
 			// ISBN이 있지만 찾지 못한 경우, 바로 새 책 생성
-			log.info("No existing book found with ISBN: {}, creating new book", firstIsbn);
+			log.info("No existing book found with ISBN: {}, creating new book", isbn);
 			return createNewBook(bookDto);
 		}
 
@@ -43,10 +52,8 @@ public class BookService {
 			StringUtils.hasText(bookDto.getPublisher())) {
 
 			Optional<Book> existingByTitleAuthorPublisher =
-				bookRepository.findByTitleAndAuthorAndPublisher(
-					bookDto.getTitle(),
-					firstAuthor,
-					bookDto.getPublisher()
+				bookRepository.findFirstByFingerprint(
+					BookFingerprint.of(bookDto.getTitle(), firstAuthor, bookDto.getPublisher())
 				);
 
 			if (existingByTitleAuthorPublisher.isPresent()) {
@@ -65,30 +72,67 @@ public class BookService {
 			.title(bookDto.getTitle())
 			.authors(bookDto.getAuthors() != null ? bookDto.getAuthors() : List.of())  // JSON 배열
 			.publisher(bookDto.getPublisher())
-			.isbn(extractFirstIsbn(bookDto.getIsbn()))
+			.isbn(IsbnUtils.normalize(bookDto.getIsbn()))
 			.contents(bookDto.getContents())
 			.thumbnail(bookDto.getThumbnail())
 			.publishedDate(bookDto.getPublishedDate())
 			.translators(bookDto.getTranslators() != null ? bookDto.getTranslators() : List.of())  // JSON 배열
 			.build();
 
-		Book savedBook = bookRepository.save(book);
+		// MySQL에서는 insert-or-get 한 번으로 처리해 동시 추가에도 중복/제약 위반이 생기지 않는다
+		Book savedBook = bookJdbcRepository.supportsUpsert()
+			? upsert(book)
+			: save(book);
 		log.info("Created new book with ID: {}", savedBook.getBookId());
 
+		// 커밋 후 표지를 미리 받아두도록 알린다
+		eventPublisher.publishEvent(new BookCreatedEvent(savedBook.getBookId(), savedBook.getThumbnail()));
+
 		return savedBook;
 	}
 
-	private String extractFirstIsbn(String isbn) {
-		if (!StringUtils.hasText(isbn)) {
-			return null;
+	private Book upsert(Book book) {
+		Long bookId = bookJdbcRepository.upsert(book);
+		Optional<Book> upserted = bookRepository.findByIdForShare(bookId);
+		String isbn = book.getIsbn();
+		if (isbn == null || upserted.filter(saved -> isbn.equals(saved.getIsbn())).isPresent()) {
+			return upserted.orElseThrow(() -> new IllegalStateException("저장한 책을 찾을 수 없습니다: " + bookId));
 		}
 
-		String trimmedIsbn = isbn.trim();
-		if (trimmedIsbn.contains(" ")) {
-			return trimmedIsbn.split(" ")[0];
+		// unique_book(제목/저자/출판사)으로 ISBN이 다른 책과 겹쳤거나,
+		// 정규화 이전 ISBN으로 저장된 책이 있어 넣지 않은 경우 ISBN으로 다시 찾는다
+		List<String> isbns = new ArrayList<>();
+		isbns.add(isbn);
+		isbns.addAll(IsbnUtils.legacyCandidates(isbn));
+		Optional<Book> byIsbn = bookRepository.findByIsbnInForShare(isbns).stream().findFirst();
+		if (byIsbn.isPresent()) {
+			return byIsbn.get();
+		}
+
+		// 같은 제목/저자/출판사의 다른 판은 unique_book 때문에 따로 저장할 수 없으므로 겹친 책을 사용
+		Book conflicting = upserted.orElseThrow(() -> new IllegalStateException("저장한 책을 찾을 수 없습니다: " + bookId));
+		log.warn("Book with ISBN {} collides with book {} (ISBN {}) on title/authors/publisher",
+			isbn, conflicting.getBookId(), conflicting.getIsbn());
+		return conflicting;
+	}
+
+	// upsert는 저자 색인을 함께 기록하므로 JPA로 저장할 때만 따로 넣는다 (books 행이 먼저 있어야 함)
+	private Book save(Book book) {
+		Book savedBook = bookRepository.save(book);
+		bookRepository.flush();
+		bookJdbcRepository.insertAuthors(Map.of(savedBook.getBookId(), savedBook.getAuthors()));
+		return savedBook;
+	}
+
+	// 정규화 이전에 ISBN-10 등으로 저장된 책도 찾는다
+	private Optional<Book> findByIsbnWithLegacy(String normalizedIsbn, String rawIsbn) {
+		Optional<Book> book = bookRepository.findByNaturalIsbn(normalizedIsbn);
+		if (book.isPresent()) {
+			return book;
 		}
 
-		return trimmedIsbn;
+		List<String> legacyIsbns = IsbnUtils.legacyCandidates(rawIsbn);
+		return legacyIsbns.isEmpty() ? Optional.empty() : bookRepository.findFirstByIsbnIn(legacyIsbns);
 	}
 
 	private String getFirstAuthor(BookDto bookDto) {
@@ -106,10 +150,10 @@ public class BookService {
 
 	@Transactional(readOnly = true)
 	public Optional<Book> findBookByIsbn(String isbn) {
-		String firstIsbn = extractFirstIsbn(isbn);
-		if (!StringUtils.hasText(firstIsbn)) {
+		String normalizedIsbn = IsbnUtils.normalize(isbn);
+		if (!StringUtils.hasText(normalizedIsbn)) {
 			return Optional.empty();
 		}
-		return bookRepository.findByIsbn(firstIsbn);
+		return findByIsbnWithLegacy(normalizedIsbn, isbn);
 	}
 }
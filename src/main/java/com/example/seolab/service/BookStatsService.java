@@ -0,0 +1,261 @@
+package com.example.seolab.service;
+
+import com.example.seolab.repository.QuoteRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.repository.projection.BookQuoteCount;
+import com.example.seolab.repository.projection.BookReaderCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 책별 독자 수 / 완독 수 / 문장 수를 Redis 해시(book_stats:{bookId})에 증분으로 유지
+// 쓰기 경로에서 커밋 후 증감하고, 주기적으로 MySQL 집계로 보정한다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookStatsService {
+
+	private static final String STATS_PREFIX = "book_stats:";
+	private static final String READERS = "readers";
+	private static final String FINISHED = "finished";
+	private static final String QUOTES = "quotes";
+
+	// 해시가 있을 때만 증감 (없으면 다음 조회 때 DB 집계로 채우므로 잘못된 부분 값을 만들지 않는다)
+	private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then " +
+			"for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+			"return 1 " +
+			"end " +
+			"return 0",
+		Long.class);
+
+	// 해시가 없을 때만 DB 집계로 채운다 (이미 있으면 그 사이 다른 요청이 채우고 증감한 값이므로 덮어쓰지 않고 반환)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> SEED_IF_ABSENT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then " +
+			"return redis.call('HGETALL', KEYS[1]) " +
+			"end " +
+			"redis.call('HSET', KEYS[1], 'readers', ARGV[1], 'finished', ARGV[2], 'quotes', ARGV[3]) " +
+			"redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+			"return {}",
+		List.class);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final UserBookRepository userBookRepository;
+	private final QuoteRepository quoteRepository;
+
+	// 조회되지 않는 책의 통계는 만료시켜 메모리를 아낀다
+	@Value("${book.stats.ttl-days:7}")
+	private long ttlDays;
+
+	@Value("${book.stats.reconcile-batch-size:200}")
+	private int reconcileBatchSize;
+
+	public record BookStats(long readers, long finished, long quotes) {
+	}
+
+	public static String key(Long bookId) {
+		return STATS_PREFIX + bookId;
+	}
+
+	public void onBookAdded(Long bookId) {
+		increment(bookId, READERS, 1);
+	}
+
+	public void onBookRemoved(Long bookId, boolean finished, long quoteCount) {
+		increment(bookId, READERS, -1, FINISHED, finished ? -1 : 0, QUOTES, -quoteCount);
+	}
+
+	public void onReadingToggled(Long bookId, boolean finished) {
+		increment(bookId, FINISHED, finished ? 1 : -1);
+	}
+
+	public void onQuoteAdded(Long bookId) {
+		increment(bookId, QUOTES, 1);
+	}
+
+	public void onQuoteRemoved(Long bookId) {
+		increment(bookId, QUOTES, -1);
+	}
+
+	// 책이 합쳐지거나 지워진 경우: 다음 조회 때 DB에서 다시 집계한다
+	public void invalidate(Collection<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return;
+		}
+		List<String> keys = bookIds.stream().map(BookStatsService::key).toList();
+		afterCommit(() -> redisTemplate.delete(keys));
+	}
+
+	// HGETALL 결과를 변환 (비어 있으면 null)
+	public BookStats fromHash(Map<Object, Object> hash) {
+		if (hash == null || hash.isEmpty()) {
+			return null;
+		}
+		return new BookStats(parse(hash.get(READERS)), parse(hash.get(FINISHED)), parse(hash.get(QUOTES)));
+	}
+
+	// 캐시에 없는 책: MySQL에서 집계해 채운다
+	// 집계와 저장 사이에 다른 요청이 해시를 만들고 증감했다면 그 값을 그대로 사용 (HSETNX와 같은 효과)
+	// 해시가 아직 없던 동안의 증감은 반영되지 않으며 주기적 보정에서 맞춰진다
+	public BookStats loadAndStore(Long bookId) {
+		BookStats stats = count(List.of(bookId)).get(bookId);
+		try {
+			List<?> existing = redisTemplate.execute(SEED_IF_ABSENT, List.of(key(bookId)),
+				String.valueOf(stats.readers()), String.valueOf(stats.finished()), String.valueOf(stats.quotes()),
+				String.valueOf(Duration.ofDays(ttlDays).toSeconds()));
+			BookStats current = fromHash(toHash(existing));
+			return current != null ? current : stats;
+		} catch (Exception e) {
+			log.warn("Failed to store reader statistics for book: {}", bookId, e);
+			return stats;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${book.stats.reconcile-interval-ms:3600000}",
+		initialDelayString = "${book.stats.reconcile-interval-ms:3600000}")
+	public void reconcile() {
+		ScanOptions options = ScanOptions.scanOptions().match(STATS_PREFIX + "*").count(500).build();
+		List<Long> batch = new ArrayList<>();
+		int reconciled = 0;
+
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				try {
+					batch.add(Long.valueOf(key.substring(STATS_PREFIX.length())));
+				} catch (NumberFormatException e) {
+					continue;
+				}
+				if (batch.size() >= reconcileBatchSize) {
+					store(count(batch));
+					reconciled += batch.size();
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				store(count(batch));
+				reconciled += batch.size();
+			}
+			log.info("Reconciled reader statistics for {} books", reconciled);
+		} catch (DataAccessException e) {
+			log.warn("Failed to reconcile reader statistics after {} books", reconciled, e);
+		}
+	}
+
+	// 책 목록 단위로 GROUP BY 두 번 (행이 없는 책은 0)
+	private Map<Long, BookStats> count(Collection<Long> bookIds) {
+		Map<Long, BookReaderCount> readers = new HashMap<>();
+		for (BookReaderCount count : userBookRepository.countReadersByBookIds(bookIds)) {
+			readers.put(count.getBookId(), count);
+		}
+		Map<Long, Long> quotes = new HashMap<>();
+		for (BookQuoteCount count : quoteRepository.countQuotesByBookIds(bookIds)) {
+			quotes.put(count.getBookId(), count.getQuotes());
+		}
+
+		Map<Long, BookStats> stats = new HashMap<>();
+		for (Long bookId : bookIds) {
+			BookReaderCount reader = readers.get(bookId);
+			stats.put(bookId, new BookStats(
+				reader != null ? reader.getReaders() : 0,
+				reader != null && reader.getFinished() != null ? reader.getFinished() : 0,
+				quotes.getOrDefault(bookId, 0L)));
+		}
+		return stats;
+	}
+
+	private void store(Map<Long, BookStats> stats) {
+		try {
+			Duration ttl = Duration.ofDays(ttlDays);
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					stats.forEach((bookId, value) -> {
+						operations.opsForHash().putAll(key(bookId), Map.of(
+							READERS, String.valueOf(value.readers()),
+							FINISHED, String.valueOf(value.finished()),
+							QUOTES, String.valueOf(value.quotes())));
+						operations.expire(key(bookId), ttl);
+					});
+					return null;
+				}
+			});
+		} catch (Exception e) {
+			log.warn("Failed to store reader statistics for {} books", stats.size(), e);
+		}
+	}
+
+	// HGETALL 결과(필드, 값, 필드, 값...)를 Map으로
+	private Map<Object, Object> toHash(List<?> fieldValues) {
+		if (fieldValues == null || fieldValues.isEmpty()) {
+			return null;
+		}
+		Map<Object, Object> hash = new HashMap<>();
+		for (int i = 0; i + 1 < fieldValues.size(); i += 2) {
+			hash.put(fieldValues.get(i), fieldValues.get(i + 1));
+		}
+		return hash;
+	}
+
+	private void increment(Long bookId, Object... fieldDeltas) {
+		String[] args = new String[fieldDeltas.length];
+		for (int i = 0; i < fieldDeltas.length; i++) {
+			args[i] = String.valueOf(fieldDeltas[i]);
+		}
+		afterCommit(() -> redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key(bookId)), (Object[]) args));
+	}
+
+	private long parse(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Math.max(0, Long.parseLong(value.toString()));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		Runnable quietAction = () -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				// 누락된 증감은 주기적 보정에서 맞춰진다
+				log.warn("Failed to update book statistics", e);
+			}
+		};
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					quietAction.run();
+				}
+			});
+		} else {
+			quietAction.run();
+		}
+	}
+}
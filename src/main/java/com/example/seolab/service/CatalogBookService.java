@@ -0,0 +1,182 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.AuthorBooksResponse;
+import com.example.seolab.dto.response.CatalogBookResponse;
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookAuthorRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.projection.CatalogBookSummary;
+import com.example.seolab.service.BookStatsService.BookStats;
+import com.example.seolab.util.AuthorNames;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 공개 책 상세: 메타데이터(JSON 문자열)와 통계(해시)를 한 번의 파이프라인으로 읽는다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogBookService {
+
+	private static final String DETAIL_PREFIX = "book_detail:";
+
+	private final BookRepository bookRepository;
+	private final BookAuthorRepository bookAuthorRepository;
+	private final BookStatsService bookStatsService;
+	private final ThumbnailService thumbnailService;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 메타데이터는 거의 바뀌지 않으므로 보강/수정 반영은 TTL에 맡긴다
+	@Value("${catalog.book.cache.ttl-seconds:600}")
+	private long detailTtlSeconds;
+
+	@Value("${catalog.author.max-page-size:100}")
+	private int maxAuthorPageSize;
+
+	public Optional<CatalogBookResponse> getBook(Long bookId) {
+		String cachedDetail = null;
+		BookStats stats = null;
+
+		try {
+			List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					operations.opsForValue().get(DETAIL_PREFIX + bookId);
+					operations.opsForHash().entries(BookStatsService.key(bookId));
+					return null;
+				}
+			});
+			cachedDetail = (String) results.get(0);
+			stats = bookStatsService.fromHash(castHash(results.get(1)));
+		} catch (Exception e) {
+			// 캐시 장애 시 DB로 대체
+			log.warn("Failed to read catalog cache for book: {}", bookId, e);
+		}
+
+		CatalogBookResponse response = parseDetail(cachedDetail);
+		if (response == null) {
+			Optional<Book> book = bookRepository.findById(bookId);
+			if (book.isEmpty()) {
+				return Optional.empty();
+			}
+			response = toResponse(book.get());
+			writeDetail(response);
+		}
+
+		if (stats == null) {
+			stats = bookStatsService.loadAndStore(bookId);
+		}
+		response.setReaderCount(stats.readers());
+		response.setFinishedCount(stats.finished());
+		response.setQuoteCount(stats.quotes());
+		return Optional.of(response);
+	}
+
+	// 저자별 책 목록 (최근에 추가된 책부터, bookId 커서로 이어서 조회)
+	public AuthorBooksResponse getBooksByAuthor(String author, Long cursor, int size) {
+		String normalizedName = AuthorNames.normalize(author);
+		if (normalizedName == null) {
+			throw new IllegalArgumentException("저자 이름을 입력해주세요.");
+		}
+		int pageSize = Math.max(1, Math.min(size, maxAuthorPageSize));
+
+		// 한 건 더 읽어 다음 페이지가 있는지 확인
+		List<CatalogBookSummary> books = bookAuthorRepository.findBooksByAuthor(
+			normalizedName, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+		boolean hasNext = books.size() > pageSize;
+		List<CatalogBookSummary> page = hasNext ? books.subList(0, pageSize) : books;
+
+		return AuthorBooksResponse.builder()
+			.author(author.trim())
+			.books(page.stream().map(this::toBookItem).toList())
+			.nextCursor(hasNext ? page.get(page.size() - 1).getBookId() : null)
+			.build();
+	}
+
+	public void evict(Collection<Long> bookIds) {
+		try {
+			redisTemplate.delete(bookIds.stream().map(bookId -> DETAIL_PREFIX + bookId).toList());
+		} catch (Exception e) {
+			log.warn("Failed to evict catalog cache for {} books", bookIds.size(), e);
+		}
+	}
+
+	private CatalogBookResponse toResponse(Book book) {
+		return CatalogBookResponse.builder()
+			.bookId(book.getBookId())
+			.title(book.getTitle())
+			.authors(book.getAuthors())
+			.publisher(book.getPublisher())
+			.isbn(book.getIsbn())
+			.publishedDate(book.getPublishedDate())
+			.translators(book.getTranslators())
+			.contents(book.getContents())
+			.thumbnail(book.getThumbnail())
+			.thumbnailSrcset(thumbnailSrcset(book.getBookId(), book.getThumbnail()))
+			.placeholder(book.getPlaceholder())
+			.build();
+	}
+
+	private AuthorBooksResponse.BookItem toBookItem(CatalogBookSummary book) {
+		return AuthorBooksResponse.BookItem.builder()
+			.bookId(book.getBookId())
+			.title(book.getTitle())
+			.authors(book.getAuthors())
+			.publisher(book.getPublisher())
+			.isbn(book.getIsbn())
+			.publishedDate(book.getPublishedDate())
+			.thumbnail(book.getThumbnail())
+			.thumbnailSrcset(thumbnailSrcset(book.getBookId(), book.getThumbnail()))
+			.placeholder(book.getPlaceholder())
+			.build();
+	}
+
+	private CatalogBookResponse parseDetail(String json) {
+		if (json == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(json, CatalogBookResponse.class);
+		} catch (Exception e) {
+			log.warn("Failed to parse cached catalog book", e);
+			return null;
+		}
+	}
+
+	private void writeDetail(CatalogBookResponse response) {
+		try {
+			redisTemplate.opsForValue().set(DETAIL_PREFIX + response.getBookId(),
+				objectMapper.writeValueAsString(response), Duration.ofSeconds(detailTtlSeconds));
+		} catch (Exception e) {
+			log.warn("Failed to write catalog cache for book: {}", response.getBookId(), e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> castHash(Object value) {
+		return value instanceof Map ? (Map<Object, Object>) value : null;
+	}
+
+	// 프록시가 허용하지 않는 호스트의 표지는 404가 나므로 srcset을 내려주지 않는다
+	private String thumbnailSrcset(Long bookId, String thumbnail) {
+		if (!StringUtils.hasText(thumbnail) || !thumbnailService.isAllowed(thumbnail)) {
+			return null;
+		}
+		return thumbnailService.buildSrcset(bookId);
+	}
+}
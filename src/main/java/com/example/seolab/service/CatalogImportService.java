@@ -0,0 +1,310 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.CatalogImportStatusResponse;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.service.search.KakaoBookSearchProvider;
+import com.example.seolab.util.IsbnUtils;
+import com.example.seolab.util.RateLimiter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// ISBN 목록 파일로 카탈로그를 미리 채우는 대량 가져오기 (한 번에 하나의 작업만 실행)
+@Service
+@Slf4j
+public class CatalogImportService {
+
+	private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+	private final KakaoBookSearchProvider kakaoBookSearchProvider;
+	private final BookJdbcRepository bookJdbcRepository;
+	private final RateLimiter rateLimiter;
+	private final ExecutorService executor;
+
+	@Value("${catalog.import.directory:${java.io.tmpdir}/seolab-imports}")
+	private String importDirectory;
+
+	@Value("${catalog.import.batch-size:500}")
+	private int batchSize;
+
+	@Value("${catalog.import.lookup-timeout-ms:5000}")
+	private long lookupTimeoutMs;
+
+	@Value("${catalog.import.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${catalog.import.quota-backoff-ms:60000}")
+	private long quotaBackoffMs;
+
+	private volatile ImportJob currentJob;
+	private Future<?> currentTask;
+
+	public CatalogImportService(
+		KakaoBookSearchProvider kakaoBookSearchProvider,
+		BookJdbcRepository bookJdbcRepository,
+		@Value("${catalog.import.requests-per-second:5}") double requestsPerSecond) {
+		this.kakaoBookSearchProvider = kakaoBookSearchProvider;
+		this.bookJdbcRepository = bookJdbcRepository;
+		this.rateLimiter = new RateLimiter(requestsPerSecond);
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "CatalogImport");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public synchronized CatalogImportStatusResponse start(String fileName) {
+		if (currentJob != null && currentJob.running) {
+			throw new IllegalArgumentException("이미 실행 중인 가져오기 작업이 있습니다.");
+		}
+
+		Path baseDirectory = Paths.get(importDirectory).toAbsolutePath().normalize();
+		Path file = baseDirectory.resolve(fileName).normalize();
+		if (!file.startsWith(baseDirectory)) {
+			throw new IllegalArgumentException("잘못된 파일 이름입니다.");
+		}
+		if (!Files.isRegularFile(file)) {
+			throw new IllegalArgumentException("가져올 파일을 찾을 수 없습니다: " + fileName);
+		}
+
+		ImportJob job = new ImportJob(fileName, readCheckpoint(checkpointPath(file)));
+		currentJob = job;
+		currentTask = executor.submit(() -> run(job, file));
+		log.info("Catalog import started: {} (resuming from line {})", fileName, job.resumedFromLine);
+		return toResponse(job);
+	}
+
+	public synchronized void cancel() {
+		if (currentTask != null) {
+			currentTask.cancel(true);
+		}
+	}
+
+	public Optional<CatalogImportStatusResponse> getStatus() {
+		ImportJob job = currentJob;
+		return job != null ? Optional.of(toResponse(job)) : Optional.empty();
+	}
+
+	private void run(ImportJob job, Path file) {
+		Path checkpoint = checkpointPath(file);
+		List<BookDto> batch = new ArrayList<>(batchSize);
+
+		// 한 줄씩 읽어 파일 전체를 메모리에 올리지 않는다
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			long lineNumber = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (lineNumber <= job.resumedFromLine) {
+					continue;
+				}
+				if (Thread.currentThread().isInterrupted()) {
+					throw new InterruptedException();
+				}
+
+				String isbn = IsbnUtils.normalize(parseIsbn(line));
+				if (isbn != null && IsbnUtils.isValidIsbn13(isbn)) {
+					resolve(job, isbn, batch);
+				}
+				job.currentLine.set(lineNumber);
+
+				// 배치 단위로 저장하고 진행 위치를 기록 (재시작 시 마지막 체크포인트 다음 줄부터)
+				if (lineNumber - job.checkpointLine >= batchSize) {
+					flush(job, batch, checkpoint, lineNumber);
+				}
+			}
+
+			flush(job, batch, checkpoint, lineNumber);
+			Files.deleteIfExists(checkpoint);
+			log.info("Catalog import finished: {} ({} resolved, {} not found, {} failed, {} rows/s)",
+				job.fileName, job.resolved.get(), job.notFound.get(), job.failed.get(),
+				String.format("%.1f", job.rowsPerSecond()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			job.error = "작업이 중단되었습니다.";
+			log.warn("Catalog import interrupted: {} at line {}", job.fileName, job.checkpointLine);
+		} catch (IOException | RuntimeException e) {
+			job.error = e.getMessage();
+			log.error("Catalog import failed: {} at line {}", job.fileName, job.checkpointLine, e);
+		} finally {
+			job.finishedAt = LocalDateTime.now();
+			job.running = false;
+		}
+	}
+
+	private void resolve(ImportJob job, String isbn, List<BookDto> batch) throws InterruptedException {
+		int attempt = 0;
+		while (true) {
+			rateLimiter.acquire();
+			try {
+				BookDto book = kakaoBookSearchProvider.lookupByIsbn(isbn).block(Duration.ofMillis(lookupTimeoutMs));
+				if (book == null) {
+					job.notFound.incrementAndGet();
+				} else {
+					book.setIsbn(isbn);
+					batch.add(book);
+				}
+				return;
+			} catch (WebClientResponseException.TooManyRequests e) {
+				// 쿼터 초과는 실패로 세지 않고 기다렸다가 같은 ISBN을 다시 조회
+				log.warn("Kakao quota exceeded during catalog import, pausing {} ms", quotaBackoffMs);
+				TimeUnit.MILLISECONDS.sleep(quotaBackoffMs);
+			} catch (RuntimeException e) {
+				if (Thread.currentThread().isInterrupted()) {
+					throw new InterruptedException();
+				}
+				if (++attempt >= maxAttempts) {
+					job.failed.incrementAndGet();
+					log.warn("Catalog import lookup failed for {}: {}", isbn, e.getMessage());
+					return;
+				}
+			}
+		}
+	}
+
+	private void flush(ImportJob job, List<BookDto> batch, Path checkpoint, long lineNumber) throws IOException {
+		// insertIfAbsent의 영향 받은 행 수는 드라이버 설정(rewriteBatchedStatements)에 따라 믿을 수 없으므로
+		// 새로 들어간 행 수가 아니라 카카오에서 찾아 저장을 시도한 ISBN 수(resolved)를 센다
+		if (!batch.isEmpty()) {
+			bookJdbcRepository.insertIfAbsent(batch);
+			job.resolved.addAndGet(batch.size());
+			job.resolvedThisRun.addAndGet(batch.size());
+			batch.clear();
+		}
+
+		job.checkpointLine = lineNumber;
+		writeCheckpoint(checkpoint, job);
+		log.info("Catalog import {}: line {}, {} resolved ({} rows/s)",
+			job.fileName, lineNumber, job.resolved.get(), String.format("%.1f", job.rowsPerSecond()));
+	}
+
+	// CSV/TSV면 첫 번째 열을 ISBN으로 사용, #으로 시작하는 줄은 주석
+	private String parseIsbn(String line) {
+		String trimmed = line.trim();
+		if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+			return null;
+		}
+		int separator = indexOfSeparator(trimmed);
+		return separator >= 0 ? trimmed.substring(0, separator).trim() : trimmed;
+	}
+
+	private int indexOfSeparator(String line) {
+		int comma = line.indexOf(',');
+		int tab = line.indexOf('\t');
+		if (comma < 0) {
+			return tab;
+		}
+		return tab < 0 ? comma : Math.min(comma, tab);
+	}
+
+	private Path checkpointPath(Path file) {
+		return file.resolveSibling(file.getFileName() + CHECKPOINT_SUFFIX);
+	}
+
+	private Properties readCheckpoint(Path checkpoint) {
+		Properties properties = new Properties();
+		if (Files.exists(checkpoint)) {
+			try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+				properties.load(reader);
+			} catch (IOException e) {
+				log.warn("Failed to read import checkpoint {}, starting from the beginning", checkpoint, e);
+				properties.clear();
+			}
+		}
+		return properties;
+	}
+
+	private void writeCheckpoint(Path checkpoint, ImportJob job) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("line", String.valueOf(job.checkpointLine));
+		properties.setProperty("resolved", String.valueOf(job.resolved.get()));
+		properties.setProperty("notFound", String.valueOf(job.notFound.get()));
+		properties.setProperty("failed", String.valueOf(job.failed.get()));
+
+		// 기록 도중 죽어도 이전 체크포인트가 남도록 임시 파일에 쓰고 교체
+		Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+		try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			properties.store(writer, null);
+		}
+		Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private CatalogImportStatusResponse toResponse(ImportJob job) {
+		return CatalogImportStatusResponse.builder()
+			.fileName(job.fileName)
+			.running(job.running)
+			.resumedFromLine(job.resumedFromLine)
+			.currentLine(job.currentLine.get())
+			.resolved(job.resolved.get())
+			.notFound(job.notFound.get())
+			.failed(job.failed.get())
+			.rowsPerSecond(job.rowsPerSecond())
+			.startedAt(job.startedAt)
+			.finishedAt(job.finishedAt)
+			.error(job.error)
+			.build();
+	}
+
+	private static class ImportJob {
+		private final String fileName;
+		private final long resumedFromLine;
+		private final AtomicLong currentLine;
+		private final AtomicLong resolved;
+		private final AtomicLong notFound;
+		private final AtomicLong failed;
+		private final AtomicLong resolvedThisRun = new AtomicLong();
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startedNanos = System.nanoTime();
+		private volatile long checkpointLine;
+		private volatile boolean running = true;
+		private volatile LocalDateTime finishedAt;
+		private volatile String error;
+
+		private ImportJob(String fileName, Properties checkpoint) {
+			this.fileName = fileName;
+			this.resumedFromLine = Long.parseLong(checkpoint.getProperty("line", "0"));
+			this.checkpointLine = resumedFromLine;
+			this.currentLine = new AtomicLong(resumedFromLine);
+			// 이전 버전 체크포인트는 imported 키를 사용
+			this.resolved = new AtomicLong(Long.parseLong(
+				checkpoint.getProperty("resolved", checkpoint.getProperty("imported", "0"))));
+			this.notFound = new AtomicLong(Long.parseLong(checkpoint.getProperty("notFound", "0")));
+			this.failed = new AtomicLong(Long.parseLong(checkpoint.getProperty("failed", "0")));
+		}
+
+		// 이번 실행에서 저장을 시도한 ISBN 기준 처리량
+		private double rowsPerSecond() {
+			double elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+			return elapsedSeconds > 0 ? resolvedThisRun.get() / elapsedSeconds : 0;
+		}
+	}
+}
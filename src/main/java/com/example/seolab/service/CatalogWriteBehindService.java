@@ -0,0 +1,92 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.util.IsbnUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+@Service
+@Slf4j
+public class CatalogWriteBehindService {
+
+	private final BookJdbcRepository bookJdbcRepository;
+	private final BlockingQueue<BookDto> pending;
+
+	@Value("${catalog.write-behind.enabled:true}")
+	private boolean enabled;
+
+	@Value("${catalog.write-behind.batch-size:200}")
+	private int batchSize;
+
+	public CatalogWriteBehindService(
+		BookJdbcRepository bookJdbcRepository,
+		@Value("${catalog.write-behind.queue-capacity:10000}") int queueCapacity) {
+		this.bookJdbcRepository = bookJdbcRepository;
+		this.pending = new LinkedBlockingQueue<>(queueCapacity);
+	}
+
+	// 검색 응답 경로에서 호출되므로 절대 블로킹하지 않는다 (큐가 가득 차면 버림)
+	public void enqueue(List<BookDto> books) {
+		if (!enabled || books == null) {
+			return;
+		}
+
+		for (BookDto book : books) {
+			String isbn = IsbnUtils.normalize(book.getIsbn());
+			if (!StringUtils.hasText(isbn) || !StringUtils.hasText(book.getTitle())) {
+				continue;
+			}
+			if (!pending.offer(copyWithIsbn(book, isbn))) {
+				log.debug("Catalog write-behind queue is full. dropped: {}", isbn);
+				return;
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${catalog.write-behind.flush-interval-ms:5000}")
+	public void flush() {
+		while (!pending.isEmpty()) {
+			List<BookDto> drained = new ArrayList<>(batchSize);
+			pending.drainTo(drained, batchSize);
+
+			// 같은 배치 안의 중복 ISBN 제거
+			Map<String, BookDto> byIsbn = new LinkedHashMap<>();
+			drained.forEach(book -> byIsbn.putIfAbsent(book.getIsbn(), book));
+
+			try {
+				int inserted = bookJdbcRepository.insertIfAbsent(new ArrayList<>(byIsbn.values()));
+				log.debug("Catalog write-behind flushed {} books ({} inserted)", byIsbn.size(), inserted);
+			} catch (Exception e) {
+				log.warn("Failed to flush catalog write-behind batch of {} books", byIsbn.size(), e);
+			}
+		}
+	}
+
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	private BookDto copyWithIsbn(BookDto book, String isbn) {
+		return BookDto.builder()
+			.title(book.getTitle())
+			.contents(book.getContents())
+			.isbn(isbn)
+			.publishedDate(book.getPublishedDate())
+			.authors(book.getAuthors())
+			.publisher(book.getPublisher())
+			.translators(book.getTranslators())
+			.thumbnail(book.getThumbnail())
+			.build();
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.seolab.service;
+
+import com.example.seolab.util.HedgeBudget;
+import com.example.seolab.util.LatencyTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 느린 첫 요청이 p90 지연을 넘기면 같은 요청을 한 번 더 보내고 먼저 도착한 응답을 사용
+@Component
+@Slf4j
+public class KakaoRequestHedger {
+
+	private final boolean enabled;
+	private final double percentile;
+	private final long minDelayMillis;
+	private final int minSamples;
+	private final LatencyTracker latencyTracker;
+	private final HedgeBudget hedgeBudget;
+
+	public KakaoRequestHedger(
+		@Value("${kakao.api.hedging.enabled:false}") boolean enabled,
+		@Value("${kakao.api.hedging.percentile:0.9}") double percentile,
+		@Value("${kakao.api.hedging.budget-ratio:0.05}") double budgetRatio,
+		@Value("${kakao.api.hedging.min-delay-ms:50}") long minDelayMillis,
+		@Value("${kakao.api.hedging.min-samples:100}") int minSamples) {
+		this.enabled = enabled;
+		this.percentile = percentile;
+		this.minDelayMillis = minDelayMillis;
+		this.minSamples = minSamples;
+		this.latencyTracker = new LatencyTracker(1024);
+		this.hedgeBudget = new HedgeBudget(budgetRatio, 10);
+	}
+
+	public <T> Mono<T> execute(Supplier<Mono<T>> request) {
+		Mono<T> primary = timed(request);
+		if (!enabled) {
+			return primary;
+		}
+
+		hedgeBudget.recordRequest();
+		// 샘플이 충분히 쌓이기 전에는 지연 기준을 믿을 수 없으므로 hedge 하지 않음
+		if (latencyTracker.sampleCount() < minSamples) {
+			return primary;
+		}
+
+		Duration hedgeDelay = Duration.ofNanos(Math.max(
+			latencyTracker.percentile(percentile), Duration.ofMillis(minDelayMillis).toNanos()));
+
+		// 첫 요청이 먼저 끝나면(특히 429/5xx로 빨리 실패하면) 아직 보내지 않은 hedge는 취소해 쿼터를 아낀다
+		Sinks.One<Boolean> primaryDone = Sinks.one();
+		AtomicReference<Throwable> primaryError = new AtomicReference<>();
+		Mono<T> trackedPrimary = primary
+			.doOnError(primaryError::set)
+			.doFinally(signal -> primaryDone.tryEmitValue(true));
+
+		Mono<T> hedged = Mono.delay(hedgeDelay)
+			.takeUntilOther(primaryDone.asMono())
+			.filter(tick -> hedgeBudget.tryAcquire())
+			.flatMap(tick -> {
+				log.debug("Sending hedged Kakao request after {} ms", hedgeDelay.toMillis());
+				return timed(request);
+			});
+
+		// 먼저 값을 낸 쪽이 이기고 나머지 구독은 취소된다
+		// 둘 다 값 없이 끝나면 firstWithValue의 NoSuchElementException 대신 첫 요청의 오류를 그대로 전달
+		return Mono.firstWithValue(trackedPrimary, hedged)
+			.onErrorMap(NoSuchElementException.class,
+				e -> primaryError.get() != null ? primaryError.get() : e);
+	}
+
+	private <T> Mono<T> timed(Supplier<Mono<T>> request) {
+		return Mono.defer(() -> {
+			long startedAt = System.nanoTime();
+			// 실패와 취소(hedge에 진 요청)도 기록해야 분위수가 빠른 응답 쪽으로 치우치지 않는다
+			// 취소된 요청의 경과 시간은 실제 지연의 하한값
+			return request.get()
+				.doFinally(signal -> latencyTracker.record(System.nanoTime() - startedAt));
+		});
+	}
+}
@@ -0,0 +1,215 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.repository.projection.OwnedBookIsbn;
+import com.example.seolab.util.HashUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OwnedBookLookupService {
+
+	// 사용자별 보유 ISBN Bloom filter (Redis 비트맵, 512바이트)
+	private static final String FILTER_PREFIX = "owned_isbn_filter:";
+	private static final int FILTER_BITS = 4096;
+	private static final int HASH_COUNT = 3;
+	// 필터가 DB 기준으로 만들어졌는지 표시하는 비트
+	private static final long BUILT_MARKER_BIT = FILTER_BITS;
+	private static final Duration FILTER_TTL = Duration.ofDays(1);
+
+	private final UserBookRepository userBookRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+
+	public void annotateOwnership(Long userId, List<BookDto> books) {
+		if (userId == null || books == null || books.isEmpty()) {
+			return;
+		}
+
+		Map<String, List<BookDto>> booksByIsbn = new HashMap<>();
+		for (BookDto book : books) {
+			for (String isbn : splitIsbns(book.getIsbn())) {
+				booksByIsbn.computeIfAbsent(isbn, key -> new ArrayList<>()).add(book);
+			}
+		}
+		if (booksByIsbn.isEmpty()) {
+			return;
+		}
+
+		// 필터를 통과한 ISBN이 없으면 DB 조회를 건너뛴다
+		Set<String> candidates = filterCandidates(userId, booksByIsbn.keySet());
+		if (candidates.isEmpty()) {
+			return;
+		}
+
+		List<OwnedBookIsbn> ownedBooks = userBookRepository.findOwnedBooksByIsbns(userId, candidates);
+		for (OwnedBookIsbn owned : ownedBooks) {
+			booksByIsbn.getOrDefault(owned.getIsbn(), List.of())
+				.forEach(book -> book.setOwnedUserBookId(owned.getUserBookId()));
+		}
+	}
+
+	public void onBookAdded(Long userId, String isbn) {
+		if (!StringUtils.hasText(isbn)) {
+			return;
+		}
+
+		afterCommit(() -> {
+			byte[] rawKey = rawKey(userId);
+			long[] offsets = offsets(isbn);
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				RedisStringCommands commands = connection.stringCommands();
+				for (long offset : offsets) {
+					commands.setBit(rawKey, offset, true);
+				}
+				return null;
+			});
+		});
+	}
+
+	// Bloom filter는 삭제를 지원하지 않으므로 다음 조회 때 다시 만든다
+	public void onBookRemoved(Long userId) {
+		afterCommit(() -> redisTemplate.delete(FILTER_PREFIX + userId));
+	}
+
+	// 기존 책에 ISBN이 새로 채워지면 그 책을 가진 사용자들의 필터를 다시 만든다
+	public void onIsbnChanged(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		List<String> keys = userIds.stream()
+			.map(userId -> FILTER_PREFIX + userId)
+			.toList();
+		afterCommit(() -> redisTemplate.delete(keys));
+	}
+
+	private Set<String> filterCandidates(Long userId, Set<String> isbns) {
+		try {
+			List<String> isbnList = new ArrayList<>(isbns);
+			List<Object> bits = readBits(userId, isbnList);
+
+			if (!Boolean.TRUE.equals(bits.get(0))) {
+				Set<String> ownedIsbns = rebuildFilter(userId);
+				Set<String> candidates = new HashSet<>(isbns);
+				candidates.retainAll(ownedIsbns);
+				return candidates;
+			}
+
+			Set<String> candidates = new HashSet<>();
+			for (int i = 0; i < isbnList.size(); i++) {
+				if (allBitsSet(bits, 1 + i * HASH_COUNT)) {
+					candidates.add(isbnList.get(i));
+				}
+			}
+			return candidates;
+		} catch (Exception e) {
+			// 필터를 쓸 수 없으면 DB 조회로 대체
+			log.warn("Failed to read owned ISBN filter for user: {}", userId, e);
+			return isbns;
+		}
+	}
+
+	private List<Object> readBits(Long userId, List<String> isbns) {
+		byte[] rawKey = rawKey(userId);
+		return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			RedisStringCommands commands = connection.stringCommands();
+			commands.getBit(rawKey, BUILT_MARKER_BIT);
+			for (String isbn : isbns) {
+				for (long offset : offsets(isbn)) {
+					commands.getBit(rawKey, offset);
+				}
+			}
+			return null;
+		});
+	}
+
+	private Set<String> rebuildFilter(Long userId) {
+		Set<String> ownedIsbns = new HashSet<>(userBookRepository.findIsbnsByUserId(userId));
+		byte[] rawKey = rawKey(userId);
+
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			RedisStringCommands commands = connection.stringCommands();
+			for (String isbn : ownedIsbns) {
+				for (long offset : offsets(isbn)) {
+					commands.setBit(rawKey, offset, true);
+				}
+			}
+			commands.setBit(rawKey, BUILT_MARKER_BIT, true);
+			connection.keyCommands().expire(rawKey, FILTER_TTL.getSeconds());
+			return null;
+		});
+
+		log.debug("Rebuilt owned ISBN filter for user {} with {} ISBNs", userId, ownedIsbns.size());
+		return ownedIsbns;
+	}
+
+	private boolean allBitsSet(List<Object> bits, int from) {
+		for (int i = from; i < from + HASH_COUNT; i++) {
+			if (!Boolean.TRUE.equals(bits.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long[] offsets(String isbn) {
+		long hash = HashUtils.hash64(isbn);
+		long[] offsets = new long[HASH_COUNT];
+		for (int i = 0; i < HASH_COUNT; i++) {
+			offsets[i] = HashUtils.index(hash, i, FILTER_BITS);
+		}
+		return offsets;
+	}
+
+	private byte[] rawKey(Long userId) {
+		return (FILTER_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+	}
+
+	// 카카오 ISBN은 "ISBN10 ISBN13" 형태로 함께 내려온다
+	private List<String> splitIsbns(String isbn) {
+		if (!StringUtils.hasText(isbn)) {
+			return List.of();
+		}
+		return List.of(isbn.trim().split("\\s+"));
+	}
+
+	private void afterCommit(Runnable action) {
+		Runnable quietAction = () -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				log.warn("Failed to update owned ISBN filter", e);
+			}
+		};
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					quietAction.run();
+				}
+			});
+		} else {
+			quietAction.run();
+		}
+	}
+}
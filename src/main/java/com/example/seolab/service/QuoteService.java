@@ -24,6 +24,7 @@ public class QuoteService {
 
 	private final QuoteRepository quoteRepository;
 	private final UserBookRepository userBookRepository;
+	private final BookStatsService bookStatsService;
 
 	public QuoteResponse addQuote(Long userId, UUID userBookId, AddQuoteRequest request) {
 		log.info("Adding quote to userBook {} for user {}", userBookId, userId);
@@ -41,6 +42,7 @@ public class QuoteService {
 
 		userBook.updateLastActivity();
 		userBookRepository.save(userBook);
+		bookStatsService.onQuoteAdded(userBook.getBook().getBookId());
 
 		log.info("Successfully added quote with ID: {}", savedQuote.getQuoteId());
 
@@ -118,6 +120,7 @@ public class QuoteService {
 
 		userBook.updateLastActivity();
 		userBookRepository.save(userBook);
+		bookStatsService.onQuoteRemoved(userBook.getBook().getBookId());
 
 		log.info("Deleted quote with ID: {}", quoteId);
 	}
@@ -196,6 +199,7 @@ public class QuoteService {
 
 		userBook.updateLastActivity();
 		userBookRepository.save(userBook);
+		bookStatsService.onQuoteRemoved(userBook.getBook().getBookId());
 
 		log.info("Deleted quote with ID: {} from userBook: {}", quoteId, userBookId);
 	}
@@ -0,0 +1,133 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.TopQueryResponse;
+import com.example.seolab.util.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class SearchCacheWarmupService implements ApplicationRunner {
+
+	private static final String TOP_QUERIES_KEY = "search:top_queries";
+
+	private final BookSearchService bookSearchService;
+	private final SearchQueryStatsService searchQueryStatsService;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final RateLimiter rateLimiter;
+
+	@Value("${search.warmup.enabled:true}")
+	private boolean enabled;
+
+	@Value("${search.warmup.query-count:50}")
+	private int queryCount;
+
+	public SearchCacheWarmupService(
+		BookSearchService bookSearchService,
+		SearchQueryStatsService searchQueryStatsService,
+		RedisTemplate<String, Object> redisTemplate,
+		@Value("${search.warmup.requests-per-second:2}") double requestsPerSecond) {
+		this.bookSearchService = bookSearchService;
+		this.searchQueryStatsService = searchQueryStatsService;
+		this.redisTemplate = redisTemplate;
+		this.rateLimiter = new RateLimiter(requestsPerSecond);
+	}
+
+	// ApplicationRunner는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행된다
+	@Override
+	public void run(ApplicationArguments args) {
+		warmUp();
+	}
+
+	@Scheduled(fixedDelayString = "${search.warmup.interval-ms:600000}",
+		initialDelayString = "${search.warmup.interval-ms:600000}")
+	public void scheduledWarmUp() {
+		warmUp();
+	}
+
+	public synchronized void warmUp() {
+		if (!enabled) {
+			return;
+		}
+
+		List<TopQueryResponse> topQueries = searchQueryStatsService.getTopQueries(queryCount);
+		saveSnapshot(topQueries);
+
+		Set<String> queries = new LinkedHashSet<>();
+		topQueries.forEach(topQuery -> queries.add(topQuery.getQuery()));
+		// 재시작 직후에는 메모리 통계가 비어 있으므로 Redis에 남겨둔 스냅샷을 함께 사용
+		queries.addAll(loadSnapshot());
+
+		int warmed = 0;
+		for (String query : queries) {
+			try {
+				rateLimiter.acquire();
+				if (bookSearchService.warmUpCache(query)) {
+					warmed++;
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("Search cache warmup interrupted");
+				return;
+			} catch (Exception e) {
+				log.warn("Failed to warm up search cache for query: {}", query, e);
+			}
+		}
+
+		log.info("Search cache warmup finished. candidates: {}, warmed: {}", queries.size(), warmed);
+	}
+
+	private void saveSnapshot(List<TopQueryResponse> topQueries) {
+		if (topQueries.isEmpty()) {
+			return;
+		}
+
+		// 임시 키에 한 번에 기록한 뒤 RENAME으로 교체해 읽는 쪽이 빈 스냅샷을 보지 않도록 한다
+		String tempKey = TOP_QUERIES_KEY + ":tmp:" + UUID.randomUUID();
+		try {
+			Set<TypedTuple<Object>> tuples = topQueries.stream()
+				.map(topQuery -> TypedTuple.<Object>of(topQuery.getQuery(), (double) topQuery.getEstimatedCount()))
+				.collect(Collectors.toSet());
+			ZSetOperations<String, Object> zSet = redisTemplate.opsForZSet();
+			zSet.add(tempKey, tuples);
+			redisTemplate.rename(tempKey, TOP_QUERIES_KEY);
+		} catch (Exception e) {
+			log.warn("Failed to save top query snapshot", e);
+			deleteQuietly(tempKey);
+		}
+	}
+
+	private void deleteQuietly(String key) {
+		try {
+			redisTemplate.delete(key);
+		} catch (Exception e) {
+			log.debug("Failed to delete temporary snapshot key: {}", key, e);
+		}
+	}
+
+	private Set<String> loadSnapshot() {
+		Set<String> queries = new LinkedHashSet<>();
+		try {
+			Set<Object> snapshot = redisTemplate.opsForZSet().reverseRange(TOP_QUERIES_KEY, 0, queryCount - 1);
+			if (snapshot != null) {
+				snapshot.forEach(query -> queries.add((String) query));
+			}
+		} catch (Exception e) {
+			log.warn("Failed to load top query snapshot", e);
+		}
+		return queries;
+	}
+}
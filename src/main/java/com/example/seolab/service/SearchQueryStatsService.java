@@ -0,0 +1,81 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.TopQueryResponse;
+import com.example.seolab.util.HeavyHitterSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@Slf4j
+public class SearchQueryStatsService {
+
+	private final HeavyHitterSketch sketch;
+	// 결과가 있었던 검색어만 따로 집계 (맞춤법 사전용)
+	private final HeavyHitterSketch successfulSketch;
+
+	public SearchQueryStatsService(
+		@Value("${search.stats.sketch-depth:4}") int depth,
+		@Value("${search.stats.sketch-width:2048}") int width,
+		@Value("${search.stats.top-k:100}") int topK) {
+		this.sketch = new HeavyHitterSketch(depth, width, topK);
+		this.successfulSketch = new HeavyHitterSketch(depth, width, topK);
+	}
+
+	public void recordQuery(String query) {
+		String normalized = normalize(query);
+		if (normalized.isEmpty()) {
+			return;
+		}
+		sketch.add(normalized);
+	}
+
+	public void recordSuccessfulQuery(String query) {
+		String normalized = normalize(query);
+		if (normalized.isEmpty()) {
+			return;
+		}
+		successfulSketch.add(normalized);
+	}
+
+	public List<TopQueryResponse> getTopQueries(int limit) {
+		return toResponses(sketch, limit);
+	}
+
+	public List<TopQueryResponse> getTopSuccessfulQueries(int limit) {
+		return toResponses(successfulSketch, limit);
+	}
+
+	private List<TopQueryResponse> toResponses(HeavyHitterSketch source, int limit) {
+		return source.top(limit).stream()
+			.map(entry -> TopQueryResponse.builder()
+				.query(entry.getKey())
+				.estimatedCount(entry.getValue())
+				.build())
+			.toList();
+	}
+
+	// 윈도우마다 카운트를 절반으로 감쇠시켜 최근 트래픽 위주로 집계
+	@Scheduled(fixedDelayString = "${search.stats.decay-interval-ms:600000}",
+		initialDelayString = "${search.stats.decay-interval-ms:600000}")
+	public void decay() {
+		sketch.decay();
+		successfulSketch.decay();
+		log.debug("Decayed search query stats. tracked keys: {}", sketch.trackedKeys());
+	}
+
+	// 대소문자, 앞뒤 공백, 연속 공백 차이를 같은 검색어로 취급
+	public static String normalize(String query) {
+		if (!StringUtils.hasText(query)) {
+			return "";
+		}
+		return query.trim()
+			.replaceAll("\\s+", " ")
+			.toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+
+	private static final String SEARCH_CACHE_PREFIX = "book_search:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	@Value("${search.cache.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	// 결과가 없는 응답은 일시적인 카카오 응답이거나 곧 카탈로그에 추가될 수 있으므로 짧게만 캐시 (0이면 캐시하지 않음)
+	@Value("${search.cache.empty-ttl-seconds:60}")
+	private long emptyTtlSeconds;
+
+	public Optional<BookSearchResponse> get(String query, String target, int page, int size) {
+		try {
+			Object cached = redisTemplate.opsForValue().get(key(query, target, page, size));
+			if (cached == null) {
+				return Optional.empty();
+			}
+			String json = (String) cached;
+			BookSearchResponse response = objectMapper.readValue(json, BookSearchResponse.class);
+			// 저장된 JSON 문자열을 그대로 해시하므로 다시 직렬화할 필요가 없다
+			response.setEtag(contentHash(json));
+			return Optional.of(response);
+		} catch (Exception e) {
+			// 캐시 장애가 검색 자체를 막지 않도록 miss로 처리
+			log.warn("Failed to read search cache for query: {}", query, e);
+			return Optional.empty();
+		}
+	}
+
+	public boolean contains(String query, String target, int page, int size) {
+		try {
+			return Boolean.TRUE.equals(redisTemplate.hasKey(key(query, target, page, size)));
+		} catch (Exception e) {
+			log.warn("Failed to check search cache for query: {}", query, e);
+			return false;
+		}
+	}
+
+	public void put(String query, String target, int page, int size, BookSearchResponse response) {
+		boolean empty = response.getBooks() == null || response.getBooks().isEmpty();
+		long ttl = empty ? emptyTtlSeconds : ttlSeconds;
+		try {
+			String json = objectMapper.writeValueAsString(response);
+			response.setEtag(contentHash(json));
+			if (ttl <= 0) {
+				return;
+			}
+			redisTemplate.opsForValue().set(key(query, target, page, size), json, Duration.ofSeconds(ttl));
+		} catch (JsonProcessingException e) {
+			log.warn("Failed to serialize search response for query: {}", query, e);
+		} catch (Exception e) {
+			log.warn("Failed to write search cache for query: {}", query, e);
+		}
+	}
+
+	private String contentHash(String json) {
+		return DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String key(String query, String target, int page, int size) {
+		String normalizedTarget = target != null ? target : "";
+		return SEARCH_CACHE_PREFIX + normalizedTarget + ":" + page + ":" + size + ":"
+			+ SearchQueryStatsService.normalize(query);
+	}
+}
@@ -0,0 +1,148 @@
+package com.example.seolab.service;
+
+import com.example.seolab.dto.response.TopQueryResponse;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.projection.BookTitleAuthors;
+import com.example.seolab.util.SymSpell;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class SpellingSuggestionService {
+
+	private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final int MIN_TOKEN_LENGTH = 2;
+	private static final int PAGE_SIZE = 1000;
+
+	private final BookRepository bookRepository;
+	private final SearchQueryStatsService searchQueryStatsService;
+	private final int maxEditDistance;
+	private final int prefixLength;
+
+	@Value("${search.spelling.max-catalog-books:200000}")
+	private int maxCatalogBooks;
+
+	@Value("${search.spelling.max-words:100000}")
+	private int maxWords;
+
+	// 재구축 중에도 조회가 가능하도록 새 사전을 만든 뒤 교체
+	private volatile SymSpell dictionary;
+
+	public SpellingSuggestionService(
+		BookRepository bookRepository,
+		SearchQueryStatsService searchQueryStatsService,
+		@Value("${search.spelling.max-edit-distance:2}") int maxEditDistance,
+		@Value("${search.spelling.prefix-length:7}") int prefixLength) {
+		this.bookRepository = bookRepository;
+		this.searchQueryStatsService = searchQueryStatsService;
+		this.maxEditDistance = maxEditDistance;
+		this.prefixLength = prefixLength;
+		this.dictionary = new SymSpell(maxEditDistance, prefixLength);
+	}
+
+	@Scheduled(fixedDelayString = "${search.spelling.rebuild-interval-ms:3600000}",
+		initialDelayString = "${search.spelling.initial-delay-ms:30000}")
+	public void rebuild() {
+		long startedAt = System.currentTimeMillis();
+		Map<String, Long> frequencies = new HashMap<>();
+
+		// OFFSET은 뒤 페이지로 갈수록 앞의 행을 모두 다시 읽으므로 bookId 커서로 이어서 읽는다
+		int scanned = 0;
+		long lastBookId = Long.MIN_VALUE;
+		while (scanned < maxCatalogBooks) {
+			List<BookTitleAuthors> books = bookRepository.findTitleAuthorsAfter(
+				lastBookId, PageRequest.of(0, Math.min(PAGE_SIZE, maxCatalogBooks - scanned)));
+			if (books.isEmpty()) {
+				break;
+			}
+			for (BookTitleAuthors book : books) {
+				addTokens(frequencies, book.getTitle(), 1);
+				if (book.getAuthors() != null) {
+					book.getAuthors().forEach(author -> addTokens(frequencies, author, 1));
+				}
+			}
+			scanned += books.size();
+			lastBookId = books.get(books.size() - 1).getBookId();
+		}
+
+		// 결과가 있었던 인기 검색어는 단어와 구문 전체를 모두 사전에 넣는다
+		for (TopQueryResponse query : searchQueryStatsService.getTopSuccessfulQueries(Integer.MAX_VALUE)) {
+			long weight = Math.max(1, query.getEstimatedCount());
+			frequencies.merge(query.getQuery(), weight, Long::sum);
+			addTokens(frequencies, query.getQuery(), weight);
+		}
+
+		SymSpell rebuilt = new SymSpell(maxEditDistance, prefixLength);
+		frequencies.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+			.limit(maxWords)
+			.forEach(entry -> rebuilt.addWord(entry.getKey(), entry.getValue()));
+		dictionary = rebuilt;
+
+		log.info("Rebuilt spelling dictionary with {} words from {} books in {} ms",
+			rebuilt.size(), scanned, System.currentTimeMillis() - startedAt);
+	}
+
+	// 검색어 전체를 먼저 교정해 보고, 없으면 단어별로 교정한 검색어를 만든다
+	public List<String> suggest(String query, int limit) {
+		String normalized = SearchQueryStatsService.normalize(query);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		SymSpell current = dictionary;
+		Set<String> suggestions = new LinkedHashSet<>();
+		for (SymSpell.Suggestion suggestion : current.lookup(normalized, limit)) {
+			if (suggestion.distance() > 0) {
+				suggestions.add(suggestion.term());
+			}
+		}
+
+		String corrected = correctTokens(current, normalized);
+		if (corrected != null) {
+			suggestions.add(corrected);
+		}
+
+		return new ArrayList<>(suggestions).subList(0, Math.min(limit, suggestions.size()));
+	}
+
+	private String correctTokens(SymSpell current, String normalized) {
+		String[] tokens = normalized.split(" ");
+		boolean changed = false;
+		for (int i = 0; i < tokens.length; i++) {
+			String token = tokens[i];
+			if (token.length() < MIN_TOKEN_LENGTH || current.contains(token)) {
+				continue;
+			}
+			List<SymSpell.Suggestion> candidates = current.lookup(token, 1);
+			if (!candidates.isEmpty()) {
+				tokens[i] = candidates.get(0).term();
+				changed = true;
+			}
+		}
+		return changed ? String.join(" ", tokens) : null;
+	}
+
+	private void addTokens(Map<String, Long> frequencies, String text, long weight) {
+		if (text == null) {
+			return;
+		}
+		for (String token : TOKEN_SEPARATOR.split(SearchQueryStatsService.normalize(text))) {
+			if (token.length() >= MIN_TOKEN_LENGTH) {
+				frequencies.merge(token, weight, Long::sum);
+			}
+		}
+	}
+}
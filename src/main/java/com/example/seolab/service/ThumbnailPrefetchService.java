@@ -0,0 +1,129 @@
+package com.example.seolab.service;
+
+import com.example.seolab.event.BookCreatedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailPrefetchService {
+
+	private final ThumbnailService thumbnailService;
+
+	@Value("${thumbnail.prefetch.enabled:true}")
+	private boolean enabled;
+
+	@Value("${thumbnail.prefetch.pool-size:2}")
+	private int poolSize;
+
+	@Value("${thumbnail.prefetch.queue-capacity:200}")
+	private int queueCapacity;
+
+	@Value("${thumbnail.prefetch.max-attempts:4}")
+	private int maxAttempts;
+
+	@Value("${thumbnail.prefetch.initial-backoff-ms:1000}")
+	private long initialBackoffMs;
+
+	@Value("${thumbnail.prefetch.per-host-concurrency:2}")
+	private int perHostConcurrency;
+
+	private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+	// 대기 중이거나 재시도 예정인 작업 수 (큐 상한 판단용)
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private ScheduledThreadPoolExecutor executor;
+
+	@PostConstruct
+	void init() {
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+			Thread thread = new Thread(runnable, "ThumbnailPrefetch-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.setRemoveOnCancelPolicy(true);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onBookCreated(BookCreatedEvent event) {
+		if (!enabled || !StringUtils.hasText(event.thumbnail()) || !thumbnailService.isAllowed(event.thumbnail())) {
+			return;
+		}
+
+		// 큐가 가득 차면 버린다 (첫 조회 때 온디맨드로 받아온다)
+		if (pending.incrementAndGet() > queueCapacity) {
+			pending.decrementAndGet();
+			log.warn("Thumbnail prefetch queue is full, skipping book {}", event.bookId());
+			return;
+		}
+
+		String host = URI.create(event.thumbnail()).getHost();
+		schedule(event.bookId(), host, 1, 0);
+	}
+
+	private void schedule(Long bookId, String host, int attempt, long delayMs) {
+		executor.schedule(() -> prefetch(bookId, host, attempt), delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	private void prefetch(Long bookId, String host, int attempt) {
+		// 같은 호스트로의 동시 요청 수를 제한하고, 자리가 없으면 시도 횟수 차감 없이 잠시 후 다시 시도한다
+		Semaphore permits = hostPermits.computeIfAbsent(host, key -> new Semaphore(perHostConcurrency));
+		if (!permits.tryAcquire()) {
+			schedule(bookId, host, attempt, initialBackoffMs / 4 + jitter());
+			return;
+		}
+
+		boolean fetched;
+		try {
+			fetched = thumbnailService.prefetch(bookId);
+		} catch (RuntimeException e) {
+			log.warn("Thumbnail prefetch failed for book {}: {}", bookId, e.getMessage());
+			fetched = false;
+		} finally {
+			permits.release();
+		}
+
+		if (fetched) {
+			pending.decrementAndGet();
+			log.debug("Prefetched thumbnail for book {}", bookId);
+			return;
+		}
+
+		if (attempt >= maxAttempts) {
+			pending.decrementAndGet();
+			log.warn("Giving up thumbnail prefetch for book {} after {} attempts", bookId, attempt);
+			return;
+		}
+
+		// 지수 백오프 + 지터
+		long backoff = initialBackoffMs * (1L << (attempt - 1)) + jitter();
+		schedule(bookId, host, attempt + 1, backoff);
+	}
+
+	private long jitter() {
+		return ThreadLocalRandom.current().nextLong(Math.max(1, initialBackoffMs / 2));
+	}
+}
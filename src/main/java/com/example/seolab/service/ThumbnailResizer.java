@@ -0,0 +1,132 @@
+package com.example.seolab.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class ThumbnailResizer {
+
+	@Value("${thumbnail.widths:60,120,240}")
+	private List<Integer> widths;
+
+	@Value("${thumbnail.resize.pool-size:2}")
+	private int poolSize;
+
+	@Value("${thumbnail.resize.queue-capacity:32}")
+	private int queueCapacity;
+
+	@Value("${thumbnail.resize.timeout-ms:2000}")
+	private long timeoutMs;
+
+	private ThreadPoolExecutor executor;
+
+	@PostConstruct
+	void init() {
+		widths = widths.stream().sorted().distinct().toList();
+
+		// 이미지 디코딩은 CPU와 메모리를 많이 쓰므로 작업 수를 제한한다
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "Thumbnail-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public List<Integer> getWidths() {
+		return widths;
+	}
+
+	// 요청한 너비 이상인 가장 작은 규격으로 맞춘다
+	public int resolveWidth(int requested) {
+		return widths.stream()
+			.filter(width -> width >= requested)
+			.findFirst()
+			.orElse(widths.get(widths.size() - 1));
+	}
+
+	public boolean resize(Path source, Path target, int width) {
+		Future<Boolean> task;
+		try {
+			task = executor.submit(() -> writeResized(source, target, width));
+		} catch (RejectedExecutionException e) {
+			log.warn("Thumbnail resize queue is full, serving original: {}", source.getFileName());
+			return false;
+		}
+
+		try {
+			return task.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("Failed to resize thumbnail {} to {}px: {}", source.getFileName(), width, e.getMessage());
+			return false;
+		}
+	}
+
+	private boolean writeResized(Path source, Path target, int width) throws IOException {
+		BufferedImage original = ImageIO.read(source.toFile());
+		if (original == null) {
+			return false;
+		}
+
+		// 원본보다 크게 늘리지는 않는다
+		int targetWidth = Math.min(width, original.getWidth());
+		int targetHeight = Math.max(1, Math.round((float) original.getHeight() * targetWidth / original.getWidth()));
+
+		BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, targetWidth, targetHeight);
+			graphics.drawImage(original, 0, 0, targetWidth, targetHeight, null);
+		} finally {
+			graphics.dispose();
+		}
+
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			if (!ImageIO.write(resized, "jpg", temp.toFile())) {
+				return false;
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+}
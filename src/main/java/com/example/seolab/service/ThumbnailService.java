@@ -0,0 +1,258 @@
+package com.example.seolab.service;
+
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailService {
+
+	private static final String BLOB_DIR = "blobs";
+	private static final String URL_INDEX_DIR = "urls";
+	private static final String THUMBNAIL_PATH = "/api/thumbnails/";
+
+	private final BookRepository bookRepository;
+	private final WebClient webClient;
+	private final ThumbnailResizer thumbnailResizer;
+
+	// 같은 이미지에 대한 동시 다운로드는 하나로 합친다
+	private final Map<String, CompletableFuture<StoredThumbnail>> inFlight = new ConcurrentHashMap<>();
+
+	@Value("${thumbnail.storage-path:${java.io.tmpdir}/seolab-thumbnails}")
+	private String storagePath;
+
+	@Value("${thumbnail.allowed-hosts:kakaocdn.net,daumcdn.net}")
+	private List<String> allowedHosts;
+
+	@Value("${thumbnail.fetch-timeout-ms:3000}")
+	private long fetchTimeoutMs;
+
+	public record StoredThumbnail(Path file, String hash, String contentType, long size) {
+	}
+
+	public Optional<StoredThumbnail> getThumbnail(Long bookId) {
+		return findThumbnailUrl(bookId).map(this::getOriginal);
+	}
+
+	public Optional<StoredThumbnail> getThumbnail(Long bookId, Integer width) {
+		Optional<StoredThumbnail> original = getThumbnail(bookId);
+		if (width == null || width <= 0 || original.isEmpty()) {
+			return original;
+		}
+		return Optional.of(getVariant(original.get(), thumbnailResizer.resolveWidth(width)));
+	}
+
+	// 원본과 모든 축소본을 미리 만들어 둔다 (원본을 가져오지 못하면 false)
+	public boolean prefetch(Long bookId) {
+		Optional<StoredThumbnail> original = findThumbnailUrl(bookId).map(this::getOriginal);
+		if (original.isEmpty()) {
+			return false;
+		}
+		thumbnailResizer.getWidths().forEach(width -> getVariant(original.get(), width));
+		return true;
+	}
+
+	public boolean isAllowed(String url) {
+		// 사용자가 직접 입력한 썸네일 주소로 내부망에 요청하지 않도록 허용된 호스트만 가져온다
+		try {
+			URI uri = URI.create(url);
+			String host = uri.getHost();
+			if (host == null || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+				return false;
+			}
+			return allowedHosts.stream()
+				.anyMatch(allowed -> host.equals(allowed) || host.endsWith("." + allowed));
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private Optional<String> findThumbnailUrl(Long bookId) {
+		return bookRepository.findById(bookId)
+			.map(Book::getThumbnail)
+			.filter(StringUtils::hasText)
+			.filter(this::isAllowed);
+	}
+
+	private StoredThumbnail getOriginal(String url) {
+		StoredThumbnail stored = readIndex(url);
+		if (stored != null) {
+			return stored;
+		}
+		return deduplicate(url, () -> download(url));
+	}
+
+	private StoredThumbnail getVariant(StoredThumbnail source, int variantWidth) {
+		String variantHash = source.hash() + "-w" + variantWidth;
+		Path variant = blobPath(variantHash);
+
+		StoredThumbnail resized = deduplicate(variantHash, () -> {
+			if (!Files.exists(variant) && !thumbnailResizer.resize(source.file(), variant, variantWidth)) {
+				return null;
+			}
+			return toVariant(variant, variantHash);
+		});
+
+		// 리사이즈에 실패하면 원본을 그대로 내려준다
+		return resized != null ? resized : source;
+	}
+
+	public String buildSrcset(Long bookId) {
+		return thumbnailResizer.getWidths().stream()
+			.map(width -> THUMBNAIL_PATH + bookId + "?w=" + width + " " + width + "w")
+			.collect(Collectors.joining(", "));
+	}
+
+	private StoredThumbnail deduplicate(String key, Supplier<StoredThumbnail> loader) {
+		CompletableFuture<StoredThumbnail> created = new CompletableFuture<>();
+		CompletableFuture<StoredThumbnail> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			return await(existing, key);
+		}
+
+		try {
+			StoredThumbnail loaded = loader.get();
+			created.complete(loaded);
+			return loaded;
+		} catch (RuntimeException e) {
+			created.complete(null);
+			log.warn("Failed to load thumbnail {}: {}", key, e.getMessage());
+			return null;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+
+	private StoredThumbnail toVariant(Path variant, String variantHash) {
+		try {
+			return new StoredThumbnail(variant, variantHash, MediaType.IMAGE_JPEG_VALUE, Files.size(variant));
+		} catch (IOException e) {
+			throw new RuntimeException("썸네일 저장 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	private StoredThumbnail await(CompletableFuture<StoredThumbnail> future, String key) {
+		try {
+			return future.get(fetchTimeoutMs * 2, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("Waiting for thumbnail {} failed: {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private StoredThumbnail download(String url) {
+		ResponseEntity<byte[]> response = webClient.get()
+			.uri(URI.create(url))
+			.retrieve()
+			.toEntity(byte[].class)
+			.block(Duration.ofMillis(fetchTimeoutMs));
+
+		if (response == null || response.getBody() == null || response.getBody().length == 0) {
+			return null;
+		}
+
+		byte[] body = response.getBody();
+		MediaType mediaType = response.getHeaders().getContentType();
+		String contentType = mediaType != null && "image".equals(mediaType.getType())
+			? mediaType.toString()
+			: MediaType.IMAGE_JPEG_VALUE;
+
+		try {
+			// 본문 해시를 파일명으로 쓰므로 같은 이미지는 한 번만 저장된다
+			String hash = sha256(body);
+			Path blob = blobPath(hash);
+			if (!Files.exists(blob)) {
+				writeAtomically(blob, body);
+			}
+			writeAtomically(indexPath(url), (hash + "\n" + contentType).getBytes(StandardCharsets.UTF_8));
+			log.debug("Stored thumbnail {} as {}", url, hash);
+			return new StoredThumbnail(blob, hash, contentType, body.length);
+		} catch (IOException e) {
+			throw new RuntimeException("썸네일 저장 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	private StoredThumbnail readIndex(String url) {
+		Path index = indexPath(url);
+		if (!Files.exists(index)) {
+			return null;
+		}
+
+		try {
+			String[] lines = Files.readString(index, StandardCharsets.UTF_8).split("\n");
+			if (lines.length < 2) {
+				return null;
+			}
+			Path blob = blobPath(lines[0]);
+			if (!Files.exists(blob)) {
+				return null;
+			}
+			return new StoredThumbnail(blob, lines[0], lines[1], Files.size(blob));
+		} catch (IOException e) {
+			log.warn("Failed to read thumbnail index for {}: {}", url, e.getMessage());
+			return null;
+		}
+	}
+
+	private Path blobPath(String hash) {
+		return Paths.get(storagePath, BLOB_DIR, hash.substring(0, 2), hash);
+	}
+
+	private Path indexPath(String url) {
+		String key = sha256(url.getBytes(StandardCharsets.UTF_8));
+		return Paths.get(storagePath, URL_INDEX_DIR, key.substring(0, 2), key);
+	}
+
+	private void writeAtomically(Path target, byte[] content) throws IOException {
+		Files.createDirectories(target.getParent());
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+		try {
+			Files.write(temp, content);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -15,15 +15,21 @@ import com.example.seolab.exception.DuplicateBookException;
 import com.example.seolab.repository.QuoteRepository;
 import com.example.seolab.repository.UserBookRepository;
 import com.example.seolab.repository.UserRepository;
+import com.example.seolab.repository.projection.UserBookQuoteCount;
+import com.example.seolab.repository.projection.UserBookSummary;
+import com.example.seolab.util.AuthorNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +43,9 @@ public class UserBookService {
 	private final UserRepository userRepository;
 	private final BookService bookService;
 	private final QuoteRepository quoteRepository;
+	private final OwnedBookLookupService ownedBookLookupService;
+	private final ThumbnailService thumbnailService;
+	private final BookStatsService bookStatsService;
 
 	public AddBookResponse addBookToUserLibrary(Long userId, AddBookRequest request) {
 		log.info("Adding book to user {} library: {}", userId, request.getTitle());
@@ -65,6 +74,8 @@ public class UserBookService {
 			.build();
 
 		UserBook savedUserBook = userBookRepository.save(userBook);
+		ownedBookLookupService.onBookAdded(userId, book.getIsbn());
+		bookStatsService.onBookAdded(book.getBookId());
 		log.info("Successfully added book to user library. UserBook ID: {}", savedUserBook.getUserBookId());
 
 		return AddBookResponse.builder()
@@ -86,33 +97,38 @@ public class UserBookService {
 		}
 
 		userBookRepository.delete(userBook);
+		ownedBookLookupService.onBookRemoved(userId);
+		bookStatsService.onBookRemoved(userBook.getBook().getBookId(), userBook.isCompleted(), quotes.size());
 		log.info("Successfully deleted userBook: {} for user: {}", userBookId, userId);
 	}
 
 	@Transactional(readOnly = true)
-	public List<UserBookResponse> getUserBooks(Long userId, Boolean favorite, Boolean reading) {
-		List<UserBook> userBooks;
-
-		if (favorite != null && favorite && reading != null) {
-			userBooks = userBookRepository.findByUserUserIdAndIsFavoriteTrueAndIsReadingOrderByUpdatedAtDesc(
-				userId, reading);
-		} else if (favorite != null && favorite) {
-			userBooks = userBookRepository.findByUserUserIdAndIsFavoriteTrueOrderByUpdatedAtDesc(userId);
-		} else if (reading != null) {
-			userBooks = userBookRepository.findByUserUserIdAndIsReadingOrderByUpdatedAtDesc(userId, reading);
-		} else {
-			userBooks = userBookRepository.findByUserUserIdOrderByUpdatedAtDesc(userId);
+	public List<UserBookResponse> getUserBooks(Long userId, Boolean favorite, Boolean reading, String author) {
+		// 목록에는 책 소개(contents)가 필요 없으므로 엔티티 대신 프로젝션으로 조회
+		List<UserBookSummary> summaries = userBookRepository.findSummariesByUserId(
+			userId, Boolean.TRUE.equals(favorite), reading, AuthorNames.normalize(author));
+		if (summaries.isEmpty()) {
+			return List.of();
 		}
 
-		return userBooks.stream()
-			.map(this::convertToUserBookResponse)
+		// 책마다 문장 수를 세지 않고 GROUP BY 한 번으로 (목록 크기와 관계없이 쿼리 2개)
+		Map<UUID, Long> quoteCounts = new HashMap<>();
+		for (UserBookQuoteCount count : quoteRepository.countQuotesByUserId(userId)) {
+			quoteCounts.put(count.getUserBookId(), count.getQuotes());
+		}
+
+		return summaries.stream()
+			.map(summary -> convertToUserBookResponse(summary,
+				quoteCounts.getOrDefault(summary.getUserBookId(), 0L)))
 			.toList();
 	}
 
 	@Transactional(readOnly = true)
 	public UserBookResponse getUserBook(Long userId, UUID userBookId) {
 		UserBook userBook = findUserBookByIdAndUserId(userBookId, userId);
-		return convertToUserBookResponse(userBook);
+		UserBookResponse response = convertToUserBookResponse(userBook);
+		response.getBook().setContents(userBook.getBook().getContents());
+		return response;
 	}
 
 	@Transactional(readOnly = true)
@@ -168,6 +184,7 @@ public class UserBookService {
 		boolean beforeReading = userBook.getIsReading();
 		userBook.toggleReading(); // 읽는 중 ↔ 완독 토글
 		boolean afterReading = userBook.getIsReading();
+		bookStatsService.onReadingToggled(userBook.getBook().getBookId(), !afterReading);
 
 		log.info("User {} toggled reading status for book: {} ({} → {})",
 			userId, userBook.getBook().getTitle(),
@@ -226,18 +243,30 @@ public class UserBookService {
 		}
 	}
 
+	private UserBookResponse convertToUserBookResponse(UserBookSummary summary, long quoteCount) {
+		UserBookResponse.BookInfo bookInfo = toBookInfo(summary.getBookId(), summary.getTitle(), summary.getIsbn(),
+			summary.getPublishedDate(), summary.getAuthors(), summary.getPublisher(), summary.getTranslators(),
+			summary.getThumbnail(), summary.getPlaceholder());
+
+		return UserBookResponse.builder()
+			.userBookId(summary.getUserBookId())
+			.book(bookInfo)
+			.startDate(summary.getCreatedAt() != null ? summary.getCreatedAt().toLocalDate() : null)
+			.endDate(summary.getEndDate())
+			.isFavorite(summary.getIsFavorite())
+			.isReading(summary.getIsReading())
+			.createdAt(summary.getCreatedAt())
+			.updatedAt(summary.getUpdatedAt())
+			.quoteCount(quoteCount)
+			.build();
+	}
+
 	private UserBookResponse convertToUserBookResponse(UserBook userBook) {
 		Book book = userBook.getBook();
 
-		UserBookResponse.BookInfo bookInfo = UserBookResponse.BookInfo.builder()
-			.title(book.getTitle())
-			.isbn(book.getIsbn())
-			.publishedDate(book.getPublishedDate())
-			.authors(book.getAuthors())
-			.publisher(book.getPublisher())
-			.translators(book.getTranslators())
-			.thumbnail(book.getThumbnail())
-			.build();
+		UserBookResponse.BookInfo bookInfo = toBookInfo(book.getBookId(), book.getTitle(), book.getIsbn(),
+			book.getPublishedDate(), book.getAuthors(), book.getPublisher(), book.getTranslators(),
+			book.getThumbnail(), book.getPlaceholder());
 
 		long quoteCount = quoteRepository.countByUserBookUserBookId(userBook.getUserBookId());
 
@@ -253,4 +282,28 @@ public class UserBookService {
 			.quoteCount(quoteCount)
 			.build();
 	}
+
+	// 목록(projection)과 단건(엔티티) 응답이 같은 책 정보를 만들도록 공유
+	private UserBookResponse.BookInfo toBookInfo(Long bookId, String title, String isbn, LocalDate publishedDate,
+		List<String> authors, String publisher, List<String> translators, String thumbnail, String placeholder) {
+		return UserBookResponse.BookInfo.builder()
+			.title(title)
+			.isbn(isbn)
+			.publishedDate(publishedDate)
+			.authors(authors)
+			.publisher(publisher)
+			.translators(translators)
+			.thumbnail(thumbnail)
+			.thumbnailSrcset(thumbnailSrcset(bookId, thumbnail))
+			.placeholder(placeholder)
+			.build();
+	}
+
+	// 프록시가 허용하지 않는 호스트(사용자가 입력한 표지 등)는 404가 나므로 srcset을 내려주지 않는다
+	private String thumbnailSrcset(Long bookId, String thumbnail) {
+		if (!StringUtils.hasText(thumbnail) || !thumbnailService.isAllowed(thumbnail)) {
+			return null;
+		}
+		return thumbnailService.buildSrcset(bookId);
+	}
 }
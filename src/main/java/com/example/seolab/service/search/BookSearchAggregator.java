@@ -0,0 +1,107 @@
+package com.example.seolab.service.search;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// 활성화된 provider를 병렬로 호출하고 전체 마감 시간 안에 도착한 결과만 ISBN 기준으로 합친다
+@Component
+@Slf4j
+public class BookSearchAggregator {
+
+	private final List<BookSearchProvider> providers;
+	private final Duration deadline;
+
+	public BookSearchAggregator(
+		List<BookSearchProvider> providers,
+		@Value("${search.aggregation.deadline-ms:3000}") long deadlineMillis) {
+		this.providers = providers;
+		this.deadline = Duration.ofMillis(deadlineMillis);
+	}
+
+	public Mono<BookSearchResponse> search(String query, String target, int page, int size) {
+		List<BookSearchProvider> enabledProviders = providers.stream()
+			.filter(BookSearchProvider::isEnabled)
+			.toList();
+
+		List<Mono<ProviderResult>> calls = new ArrayList<>();
+		for (int i = 0; i < enabledProviders.size(); i++) {
+			BookSearchProvider provider = enabledProviders.get(i);
+			int priority = i;
+			calls.add(provider.search(query, target, page, size)
+				.timeout(provider.getTimeout())
+				.map(response -> new ProviderResult(priority, provider.getName(), response))
+				.onErrorResume(e -> {
+					log.warn("Book search provider {} failed for query {}: {}",
+						provider.getName(), query, e.toString());
+					return Mono.empty();
+				}));
+		}
+
+		// 마감 시간이 지나면 아직 응답하지 않은 provider 구독은 취소된다
+		return Flux.merge(calls)
+			.take(deadline)
+			.collectList()
+			.map(results -> merge(results, enabledProviders.size(), size));
+	}
+
+	private BookSearchResponse merge(List<ProviderResult> results, int providerCount, int size) {
+		if (results.isEmpty()) {
+			throw new RuntimeException("책 검색 중 오류가 발생했습니다.");
+		}
+
+		List<ProviderResult> ordered = new ArrayList<>(results);
+		ordered.sort(Comparator.comparingInt(ProviderResult::priority));
+
+		Set<String> seenKeys = new HashSet<>();
+		List<BookDto> merged = new ArrayList<>();
+		for (ProviderResult result : ordered) {
+			for (BookDto book : result.response().getBooks()) {
+				List<String> keys = dedupKeys(book);
+				if (keys.stream().noneMatch(seenKeys::contains)) {
+					merged.add(book);
+				}
+				seenKeys.addAll(keys);
+			}
+		}
+
+		// 실패한 provider가 있는데 남은 결과가 비었으면 "결과 없음"이 아니라 오류로 알린다
+		boolean partial = results.size() < providerCount;
+		if (partial && merged.isEmpty()) {
+			throw new RuntimeException("책 검색 중 오류가 발생했습니다.");
+		}
+
+		// 총 개수와 마지막 페이지 여부는 우선순위가 가장 높은 응답 기준
+		BookSearchResponse primary = ordered.get(0).response();
+		return BookSearchResponse.builder()
+			.books(merged.size() > size ? merged.subList(0, size) : merged)
+			.totalCount(Math.max(primary.getTotalCount(), merged.size()))
+			.isEnd(primary.isEnd())
+			.partial(partial)
+			.build();
+	}
+
+	private List<String> dedupKeys(BookDto book) {
+		if (StringUtils.hasText(book.getIsbn())) {
+			return List.of(book.getIsbn().trim().split("\\s+"));
+		}
+		String firstAuthor = book.getAuthors() != null && !book.getAuthors().isEmpty() ? book.getAuthors().get(0) : "";
+		return List.of((book.getTitle() + "|" + firstAuthor).toLowerCase(Locale.ROOT));
+	}
+
+	private record ProviderResult(int priority, String provider, BookSearchResponse response) {
+	}
+}
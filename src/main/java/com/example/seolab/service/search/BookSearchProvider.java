@@ -0,0 +1,18 @@
+package com.example.seolab.service.search;
+
+import com.example.seolab.dto.response.BookSearchResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface BookSearchProvider {
+
+	String getName();
+
+	boolean isEnabled();
+
+	// 이 시간 안에 응답하지 못하면 해당 provider 결과 없이 집계
+	Duration getTimeout();
+
+	Mono<BookSearchResponse> search(String query, String target, int page, int size);
+}
@@ -0,0 +1,162 @@
+package com.example.seolab.service.search;
+
+import com.example.seolab.dto.external.KakaoBookSearchResponse;
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.service.CatalogWriteBehindService;
+import com.example.seolab.service.KakaoRequestHedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.HtmlUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class KakaoBookSearchProvider implements BookSearchProvider {
+
+	@Value("${kakao.api.key}")
+	private String kakaoApiKey;
+
+	@Value("${kakao.api.book-search-url}")
+	private String bookSearchUrl;
+
+	@Value("${search.providers.kakao.timeout-ms:2500}")
+	private long timeoutMillis;
+
+	private final WebClient webClient;
+	private final KakaoRequestHedger kakaoRequestHedger;
+	private final CatalogWriteBehindService catalogWriteBehindService;
+
+	@Override
+	public String getName() {
+		return "kakao";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public Duration getTimeout() {
+		return Duration.ofMillis(timeoutMillis);
+	}
+
+	@Override
+	public Mono<BookSearchResponse> search(String query, String target, int page, int size) {
+		return kakaoRequestHedger.execute(() -> requestKakao(query, target, page, size))
+			.map(kakaoResponse -> toResponse(query, kakaoResponse))
+			.switchIfEmpty(Mono.fromSupplier(() -> emptyResponse(query)))
+			.doOnError(WebClientResponseException.class, e ->
+				log.error("Error calling Kakao API: {} - {}", e.getStatusCode(), e.getResponseBodyAsString()));
+	}
+
+	// 대량 가져오기용 ISBN 단건 조회 (쿼터 절약을 위해 헤지하지 않고, 저장은 호출 측에서 직접)
+	public Mono<BookDto> lookupByIsbn(String isbn) {
+		return requestKakao(isbn, "isbn", 1, 1)
+			.flatMap(kakaoResponse -> kakaoResponse.getDocuments() == null || kakaoResponse.getDocuments().isEmpty()
+				? Mono.empty()
+				: Mono.just(convertToBookDto(kakaoResponse.getDocuments().get(0))));
+	}
+
+	// 메타데이터 보강용 제목 검색 (백그라운드 작업이라 헤지하지 않고, 카탈로그 적재 없이 후보만 반환)
+	public Mono<List<BookDto>> lookupByTitle(String title, int size) {
+		return requestKakao(title, "title", 1, size)
+			.map(kakaoResponse -> kakaoResponse.getDocuments() == null
+				? List.<BookDto>of()
+				: kakaoResponse.getDocuments().stream().map(this::convertToBookDto).toList())
+			.defaultIfEmpty(List.of());
+	}
+
+	private Mono<KakaoBookSearchResponse> requestKakao(String query, String target, int page, int size) {
+		return webClient.get()
+			.uri(uriBuilder -> {
+				var builder = uriBuilder
+					.path(bookSearchUrl.replace("https://dapi.kakao.com", ""))
+					.queryParam("query", query)
+					.queryParam("page", page)
+					.queryParam("size", size)
+					.queryParam("sort", "accuracy");
+
+				// target이 지정된 경우에만 추가
+				if (target != null && !target.isEmpty()) {
+					builder.queryParam("target", target);
+				}
+
+				return builder.build();
+			})
+			.header("Authorization", "KakaoAK " + kakaoApiKey)
+			.retrieve()
+			.bodyToMono(KakaoBookSearchResponse.class);
+	}
+
+	private BookSearchResponse toResponse(String query, KakaoBookSearchResponse kakaoResponse) {
+		if (kakaoResponse.getDocuments() == null) {
+			return emptyResponse(query);
+		}
+
+		List<BookDto> books = kakaoResponse.getDocuments().stream()
+			.map(this::convertToBookDto)
+			.toList();
+
+		log.info("Found {} books for query: {}", books.size(), query);
+
+		// 검색 결과를 로컬 카탈로그에 비동기로 적재
+		catalogWriteBehindService.enqueue(books);
+
+		return BookSearchResponse.builder()
+			.books(books)
+			.totalCount(kakaoResponse.getMeta().getTotalCount())
+			.isEnd(kakaoResponse.getMeta().isEnd())
+			.build();
+	}
+
+	private BookSearchResponse emptyResponse(String query) {
+		log.warn("No response from Kakao API for query: {}", query);
+		return BookSearchResponse.builder()
+			.books(List.of())
+			.totalCount(0)
+			.isEnd(true)
+			.build();
+	}
+
+	private BookDto convertToBookDto(KakaoBookSearchResponse.Document document) {
+		return BookDto.builder()
+			.title(HtmlUtils.htmlUnescape(document.getTitle()))
+			.contents(HtmlUtils.htmlUnescape(document.getContents()))
+			.isbn(document.getIsbn())
+			.publishedDate(parseDate(document.getDatetime()))
+			.authors(document.getAuthors())
+			.publisher(document.getPublisher())
+			.translators(document.getTranslators())
+			.thumbnail(document.getThumbnail())
+			.build();
+	}
+
+	private LocalDate parseDate(String datetime) {
+		if (datetime == null || datetime.isEmpty()) {
+			return null;
+		}
+
+		try {
+			// ISO 8601 형식 파싱: 2014-11-17T00:00:00.000+09:00
+			return LocalDate.parse(datetime.substring(0, 10), DateTimeFormatter.ISO_LOCAL_DATE);
+		} catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+			log.warn("Failed to parse date: {}", datetime);
+			return null;
+		}
+	}
+}
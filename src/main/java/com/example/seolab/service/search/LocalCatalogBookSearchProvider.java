@@ -0,0 +1,99 @@
+package com.example.seolab.service.search;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.util.IsbnUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+// write-behind로 쌓인 로컬 카탈로그(books)에서 검색
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class LocalCatalogBookSearchProvider implements BookSearchProvider {
+
+	private final BookRepository bookRepository;
+
+	@Value("${search.providers.local.enabled:true}")
+	private boolean enabled;
+
+	@Value("${search.providers.local.timeout-ms:500}")
+	private long timeoutMillis;
+
+	@Override
+	public String getName() {
+		return "local";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public Duration getTimeout() {
+		return Duration.ofMillis(timeoutMillis);
+	}
+
+	@Override
+	public Mono<BookSearchResponse> search(String query, String target, int page, int size) {
+		// 카카오 결과와 페이지 기준이 다르므로 첫 페이지에만 보탠다
+		// 참여하지 않는 경우도 빈 응답으로 돌려줘야 집계에서 누락(partial)으로 보지 않는다
+		if (page != 1 || !supports(target)) {
+			return Mono.just(emptyResponse());
+		}
+
+		// JPA 조회는 블로킹이므로 별도 스케줄러에서 실행
+		return Mono.fromCallable(() -> findBooks(query, target, size))
+			.subscribeOn(Schedulers.boundedElastic())
+			.map(books -> BookSearchResponse.builder()
+				.books(books.stream().map(this::convertToBookDto).toList())
+				.totalCount(books.size())
+				.isEnd(true)
+				.build());
+	}
+
+	// 저자/출판사 검색은 로컬에 알맞은 인덱스가 없으므로 카카오에만 맡긴다
+	private boolean supports(String target) {
+		return target == null || "title".equals(target) || "isbn".equals(target);
+	}
+
+	private List<Book> findBooks(String query, String target, int size) {
+		if ("isbn".equals(target)) {
+			String isbn = IsbnUtils.normalize(query);
+			return isbn != null ? bookRepository.findByNaturalIsbn(isbn).map(List::of).orElse(List.of()) : List.of();
+		}
+		return bookRepository.findByTitleContaining(query.trim(), PageRequest.of(0, size));
+	}
+
+	private BookSearchResponse emptyResponse() {
+		return BookSearchResponse.builder()
+			.books(List.of())
+			.totalCount(0)
+			.isEnd(true)
+			.build();
+	}
+
+	private BookDto convertToBookDto(Book book) {
+		return BookDto.builder()
+			.title(book.getTitle())
+			.contents(book.getContents())
+			.isbn(book.getIsbn())
+			.publishedDate(book.getPublishedDate())
+			.authors(book.getAuthors())
+			.publisher(book.getPublisher())
+			.translators(book.getTranslators())
+			.thumbnail(book.getThumbnail())
+			.build();
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.seolab.service.search;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+// 개발/부하 테스트용 provider: 설정한 제목 목록과 지연, 실패 여부로 응답을 흉내낸다
+@Component
+@Order(3)
+public class StubBookSearchProvider implements BookSearchProvider {
+
+	@Value("${search.providers.stub.enabled:false}")
+	private boolean enabled;
+
+	@Value("${search.providers.stub.timeout-ms:1000}")
+	private long timeoutMillis;
+
+	@Value("${search.providers.stub.delay-ms:0}")
+	private long delayMillis;
+
+	@Value("${search.providers.stub.fail:false}")
+	private boolean fail;
+
+	@Value("${search.providers.stub.titles:}")
+	private List<String> titles;
+
+	@Override
+	public String getName() {
+		return "stub";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public Duration getTimeout() {
+		return Duration.ofMillis(timeoutMillis);
+	}
+
+	@Override
+	public Mono<BookSearchResponse> search(String query, String target, int page, int size) {
+		if (fail) {
+			return Mono.delay(Duration.ofMillis(delayMillis))
+				.then(Mono.error(new IllegalStateException("stub provider failure")));
+		}
+
+		String normalizedQuery = query.trim().toLowerCase(Locale.ROOT);
+		List<BookDto> books = titles.stream()
+			.filter(title -> title.toLowerCase(Locale.ROOT).contains(normalizedQuery))
+			.limit(size)
+			.map(title -> BookDto.builder()
+				.title(title)
+				.authors(List.of())
+				.translators(List.of())
+				.build())
+			.toList();
+
+		return Mono.delay(Duration.ofMillis(delayMillis))
+			.thenReturn(BookSearchResponse.builder()
+				.books(books)
+				.totalCount(books.size())
+				.isEnd(true)
+				.build());
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.seolab.util;
+
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// book_authors.normalized_name 계산 (fingerprint와 같은 규칙: 전각/반각, 대소문자, 공백 무시)
+public final class AuthorNames {
+
+	public static final int MAX_LENGTH = 255;
+
+	private AuthorNames() {
+	}
+
+	public static String normalize(String name) {
+		String normalized = BookFingerprint.normalize(name);
+		if (normalized.isEmpty()) {
+			return null;
+		}
+		return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) : normalized;
+	}
+
+	// 정규화 이름 -> 원래 이름 (빈 이름 제외, 같은 책에서 중복된 저자는 처음 것만)
+	public static Map<String, String> distinct(List<String> authors) {
+		Map<String, String> result = new LinkedHashMap<>();
+		if (authors == null) {
+			return result;
+		}
+		for (String author : authors) {
+			String normalized = normalize(author);
+			if (normalized != null && StringUtils.hasText(author)) {
+				String name = author.trim();
+				result.putIfAbsent(normalized, name.length() > MAX_LENGTH ? name.substring(0, MAX_LENGTH) : name);
+			}
+		}
+		return result;
+	}
+}
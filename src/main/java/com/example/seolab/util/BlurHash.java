@@ -0,0 +1,124 @@
+package com.example.seolab.util;
+
+import java.awt.image.BufferedImage;
+
+// BlurHash 인코더 (https://blurha.sh 알고리즘)
+public final class BlurHash {
+
+	private static final String BASE83 =
+		"0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+	private BlurHash() {
+	}
+
+	public static String encode(BufferedImage image, int componentsX, int componentsY) {
+		if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+			throw new IllegalArgumentException("BlurHash 성분 수는 1~9 사이여야 합니다.");
+		}
+
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+		// 픽셀마다 한 번만 선형 색공간으로 변환해 둔다
+		double[] red = new double[pixels.length];
+		double[] green = new double[pixels.length];
+		double[] blue = new double[pixels.length];
+		for (int p = 0; p < pixels.length; p++) {
+			red[p] = srgbToLinear((pixels[p] >> 16) & 0xFF);
+			green[p] = srgbToLinear((pixels[p] >> 8) & 0xFF);
+			blue[p] = srgbToLinear(pixels[p] & 0xFF);
+		}
+
+		double[][] factors = new double[componentsX * componentsY][];
+		for (int j = 0; j < componentsY; j++) {
+			double[] cosY = cosines(j, height);
+			for (int i = 0; i < componentsX; i++) {
+				double[] cosX = cosines(i, width);
+				double normalisation = (i == 0 && j == 0) ? 1 : 2;
+				double r = 0;
+				double g = 0;
+				double b = 0;
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						double basis = cosX[x] * cosY[y];
+						int p = y * width + x;
+						r += basis * red[p];
+						g += basis * green[p];
+						b += basis * blue[p];
+					}
+				}
+				double scale = normalisation / (width * height);
+				factors[j * componentsX + i] = new double[]{r * scale, g * scale, b * scale};
+			}
+		}
+
+		StringBuilder hash = new StringBuilder();
+		encode83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+		double maximumValue;
+		if (factors.length > 1) {
+			double actualMax = 0;
+			for (int k = 1; k < factors.length; k++) {
+				for (double component : factors[k]) {
+					actualMax = Math.max(actualMax, Math.abs(component));
+				}
+			}
+			int quantisedMax = (int) Math.max(0, Math.min(82, Math.floor(actualMax * 166 - 0.5)));
+			maximumValue = (quantisedMax + 1) / 166.0;
+			encode83(hash, quantisedMax, 1);
+		} else {
+			maximumValue = 1;
+			encode83(hash, 0, 1);
+		}
+
+		encode83(hash, encodeDc(factors[0]), 4);
+		for (int k = 1; k < factors.length; k++) {
+			encode83(hash, encodeAc(factors[k], maximumValue), 2);
+		}
+		return hash.toString();
+	}
+
+	private static double[] cosines(int component, int length) {
+		double[] values = new double[length];
+		for (int n = 0; n < length; n++) {
+			values[n] = Math.cos(Math.PI * component * n / length);
+		}
+		return values;
+	}
+
+	private static int encodeDc(double[] value) {
+		return (linearToSrgb(value[0]) << 16) + (linearToSrgb(value[1]) << 8) + linearToSrgb(value[2]);
+	}
+
+	private static int encodeAc(double[] value, double maximumValue) {
+		int r = quantiseAc(value[0] / maximumValue);
+		int g = quantiseAc(value[1] / maximumValue);
+		int b = quantiseAc(value[2] / maximumValue);
+		return r * 19 * 19 + g * 19 + b;
+	}
+
+	private static int quantiseAc(double value) {
+		double signedRoot = Math.copySign(Math.sqrt(Math.abs(value)), value);
+		return (int) Math.max(0, Math.min(18, Math.floor(signedRoot * 9 + 9.5)));
+	}
+
+	private static double srgbToLinear(int value) {
+		double v = value / 255.0;
+		return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+	}
+
+	private static int linearToSrgb(double value) {
+		double v = Math.max(0, Math.min(1, value));
+		return v <= 0.0031308
+			? (int) (v * 12.92 * 255 + 0.5)
+			: (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+	}
+
+	private static void encode83(StringBuilder target, int value, int length) {
+		for (int i = 1; i <= length; i++) {
+			int digit = (value / (int) Math.pow(83, length - i)) % 83;
+			target.append(BASE83.charAt(digit));
+		}
+	}
+}
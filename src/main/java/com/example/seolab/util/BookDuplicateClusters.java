@@ -0,0 +1,89 @@
+package com.example.seolab.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 같은 판본으로 보이는 책 묶기: ISBN-10/13이 같으면 같은 책, ISBN이 없으면 fingerprint로 묶는다
+public final class BookDuplicateClusters {
+
+	private BookDuplicateClusters() {
+	}
+
+	public record Entry(Long bookId, String isbn, String fingerprint) {
+	}
+
+	// normalizedIsbn: 병합 후 남는 책에 새로 저장할 ISBN-13 (바꿀 필요가 없으면 null)
+	public record Cluster(Long winnerId, List<Long> loserIds, String normalizedIsbn) {
+	}
+
+	public static List<Cluster> find(List<Entry> entries) {
+		Map<String, List<Entry>> byIsbn = new LinkedHashMap<>();
+		List<Entry> withoutIsbn = new ArrayList<>();
+		for (Entry entry : entries) {
+			String isbn = isbnKey(entry.isbn());
+			if (isbn != null) {
+				byIsbn.computeIfAbsent(isbn, key -> new ArrayList<>()).add(entry);
+			} else {
+				withoutIsbn.add(entry);
+			}
+		}
+
+		Map<String, Set<String>> isbnsByFingerprint = new HashMap<>();
+		byIsbn.forEach((isbn, group) -> group.stream()
+			.filter(entry -> entry.fingerprint() != null)
+			.forEach(entry -> isbnsByFingerprint.computeIfAbsent(entry.fingerprint(), key -> new HashSet<>()).add(isbn)));
+
+		Map<String, List<Entry>> byFingerprint = new LinkedHashMap<>();
+		for (Entry entry : withoutIsbn) {
+			if (entry.fingerprint() == null) {
+				continue;
+			}
+			Set<String> isbns = isbnsByFingerprint.getOrDefault(entry.fingerprint(), Set.of());
+			if (isbns.size() == 1) {
+				byIsbn.get(isbns.iterator().next()).add(entry);
+			} else if (isbns.isEmpty()) {
+				byFingerprint.computeIfAbsent(entry.fingerprint(), key -> new ArrayList<>()).add(entry);
+			}
+			// 같은 제목/저자/출판사로 판본이 여럿이면 어느 쪽인지 알 수 없으므로 그대로 둔다
+		}
+
+		List<Cluster> clusters = new ArrayList<>();
+		byIsbn.forEach((isbn, group) -> {
+			if (group.size() > 1) {
+				clusters.add(toCluster(group, isbn));
+			}
+		});
+		byFingerprint.values().forEach(group -> {
+			if (group.size() > 1) {
+				clusters.add(toCluster(group, null));
+			}
+		});
+		return clusters;
+	}
+
+	// 이미 정규화된 ISBN으로 저장된 책을 우선 남기고, 그다음은 가장 먼저 만들어진 책
+	private static Cluster toCluster(List<Entry> group, String isbn) {
+		Entry winner = group.stream()
+			.min(Comparator.comparing((Entry entry) -> isbn != null && isbn.equals(entry.isbn()) ? 0 : 1)
+				.thenComparing(Entry::bookId))
+			.orElseThrow();
+
+		List<Long> loserIds = group.stream()
+			.map(Entry::bookId)
+			.filter(bookId -> !bookId.equals(winner.bookId()))
+			.sorted()
+			.toList();
+		return new Cluster(winner.bookId(), loserIds, isbn != null && !isbn.equals(winner.isbn()) ? isbn : null);
+	}
+
+	private static String isbnKey(String isbn) {
+		String normalized = IsbnUtils.normalize(isbn);
+		return IsbnUtils.isValidIsbn13(normalized) ? normalized : null;
+	}
+}
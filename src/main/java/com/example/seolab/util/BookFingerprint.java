@@ -0,0 +1,37 @@
+package com.example.seolab.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+
+// ISBN이 없는 책의 중복 확인용 지문 (정규화한 제목 + 첫 번째 저자 + 출판사의 SHA-256)
+public final class BookFingerprint {
+
+	private static final char SEPARATOR = '\u001F';
+
+	private BookFingerprint() {
+	}
+
+	public static String of(String title, String firstAuthor, String publisher) {
+		String source = normalize(title) + SEPARATOR + normalize(firstAuthor) + SEPARATOR + normalize(publisher);
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 전각/반각, 대소문자, 공백 차이는 같은 값으로 본다
+	static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		return Normalizer.normalize(value, Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT)
+			.replaceAll("\\s+", "");
+	}
+}
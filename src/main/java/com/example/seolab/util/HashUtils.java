@@ -0,0 +1,37 @@
+package com.example.seolab.util;
+
+public final class HashUtils {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private HashUtils() {
+	}
+
+	// 문자열 64비트 해시 (FNV-1a + murmur3 finalizer)
+	public static long hash64(String value) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return mix64(hash);
+	}
+
+	public static long mix64(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+	// double hashing: i번째 해시 함수의 인덱스 (0 <= index < size)
+	public static int index(long hash, int i, int size) {
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		int combined = h1 + i * h2;
+		return Math.floorMod(combined, size);
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.seolab.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Count-Min Sketch + Top-K 후보 목록
+// 서로 다른 키가 아무리 많아도 메모리는 depth * width 카운터와 K개의 후보로 고정된다
+public class HeavyHitterSketch {
+
+	private final int depth;
+	private final int width;
+	private final int capacity;
+	private final long[][] counters;
+	private final Map<String, Long> topK;
+
+	public HeavyHitterSketch(int depth, int width, int capacity) {
+		if (depth <= 0 || width <= 0 || capacity <= 0) {
+			throw new IllegalArgumentException("depth, width, capacity는 0보다 커야 합니다.");
+		}
+		this.depth = depth;
+		this.width = width;
+		this.capacity = capacity;
+		this.counters = new long[depth][width];
+		this.topK = new HashMap<>(capacity * 2);
+	}
+
+	public synchronized long add(String key) {
+		long hash = HashUtils.hash64(key);
+		long estimate = Long.MAX_VALUE;
+		for (int i = 0; i < depth; i++) {
+			int index = HashUtils.index(hash, i, width);
+			counters[i][index]++;
+			estimate = Math.min(estimate, counters[i][index]);
+		}
+		offer(key, estimate);
+		return estimate;
+	}
+
+	public synchronized long estimate(String key) {
+		long hash = HashUtils.hash64(key);
+		long estimate = Long.MAX_VALUE;
+		for (int i = 0; i < depth; i++) {
+			estimate = Math.min(estimate, counters[i][HashUtils.index(hash, i, width)]);
+		}
+		return estimate;
+	}
+
+	public synchronized List<Map.Entry<String, Long>> top(int limit) {
+		List<Map.Entry<String, Long>> entries = new ArrayList<>(topK.entrySet());
+		entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+			.thenComparing(Map.Entry.comparingByKey()));
+		return entries.stream()
+			.limit(limit)
+			.map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+			.toList();
+	}
+
+	// 모든 카운터를 절반으로 줄여 오래된 트래픽의 비중을 낮춘다 (시간 감쇠)
+	public synchronized void decay() {
+		for (long[] row : counters) {
+			for (int j = 0; j < row.length; j++) {
+				row[j] >>>= 1;
+			}
+		}
+		topK.replaceAll((key, count) -> count >>> 1);
+		topK.values().removeIf(count -> count == 0);
+	}
+
+	public synchronized int trackedKeys() {
+		return topK.size();
+	}
+
+	private void offer(String key, long estimate) {
+		if (topK.containsKey(key) || topK.size() < capacity) {
+			topK.put(key, estimate);
+			return;
+		}
+
+		// 후보가 가득 찬 경우 가장 작은 후보보다 클 때만 교체
+		Map.Entry<String, Long> min = null;
+		for (Map.Entry<String, Long> entry : topK.entrySet()) {
+			if (min == null || entry.getValue() < min.getValue()) {
+				min = entry;
+			}
+		}
+		if (min != null && estimate > min.getValue()) {
+			topK.remove(min.getKey());
+			topK.put(key, estimate);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.seolab.util;
+
+// 전체 요청 대비 일정 비율까지만 hedge 요청을 허용하는 토큰 버킷
+public class HedgeBudget {
+
+	private final double ratio;
+	private final double maxTokens;
+	private double tokens;
+
+	public HedgeBudget(double ratio, double maxTokens) {
+		if (ratio < 0 || ratio > 1) {
+			throw new IllegalArgumentException("ratio는 0과 1 사이여야 합니다.");
+		}
+		this.ratio = ratio;
+		this.maxTokens = maxTokens;
+	}
+
+	// 요청 한 건마다 ratio만큼 적립
+	public synchronized void recordRequest() {
+		tokens = Math.min(maxTokens, tokens + ratio);
+	}
+
+	public synchronized boolean tryAcquire() {
+		if (tokens >= 1) {
+			tokens -= 1;
+			return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.seolab.util;
+
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class IsbnUtils {
+
+	private IsbnUtils() {
+	}
+
+	// 카카오 ISBN은 "ISBN10 ISBN13" 형태이므로 첫 번째 값만 사용
+	public static String extractFirst(String isbn) {
+		if (!StringUtils.hasText(isbn)) {
+			return null;
+		}
+
+		String trimmedIsbn = isbn.trim();
+		if (trimmedIsbn.contains(" ")) {
+			return trimmedIsbn.split(" ")[0];
+		}
+
+		return trimmedIsbn;
+	}
+
+	// 저장용 대표 ISBN: 유효한 ISBN-13을 우선하고, ISBN-10만 있으면 ISBN-13으로 변환
+	// 둘 다 유효하지 않으면 기존처럼 첫 번째 값을 그대로 사용
+	public static String normalize(String isbn) {
+		if (!StringUtils.hasText(isbn)) {
+			return null;
+		}
+
+		String[] tokens = isbn.trim().split("\\s+");
+		for (String token : tokens) {
+			String cleaned = clean(token);
+			if (isValidIsbn13(cleaned)) {
+				return cleaned;
+			}
+		}
+		for (String token : tokens) {
+			String cleaned = clean(token);
+			if (isValidIsbn10(cleaned)) {
+				return toIsbn13(cleaned);
+			}
+		}
+		return extractFirst(isbn);
+	}
+
+	// 정규화 이전에 저장된 행(ISBN-10 등)을 찾기 위한 나머지 후보
+	public static List<String> legacyCandidates(String isbn) {
+		String normalized = normalize(isbn);
+		if (normalized == null) {
+			return List.of();
+		}
+
+		Set<String> candidates = new LinkedHashSet<>();
+		for (String token : isbn.trim().split("\\s+")) {
+			candidates.add(token);
+			candidates.add(clean(token));
+		}
+		String isbn10 = toIsbn10(normalized);
+		if (isbn10 != null) {
+			candidates.add(isbn10);
+		}
+		candidates.remove(normalized);
+		return List.copyOf(candidates);
+	}
+
+	public static boolean isValidIsbn10(String isbn) {
+		if (isbn == null || !isbn.matches("\\d{9}[\\dX]")) {
+			return false;
+		}
+
+		int sum = 0;
+		for (int i = 0; i < 10; i++) {
+			char c = isbn.charAt(i);
+			int digit = c == 'X' ? 10 : c - '0';
+			sum += (10 - i) * digit;
+		}
+		return sum % 11 == 0;
+	}
+
+	public static boolean isValidIsbn13(String isbn) {
+		if (isbn == null || !isbn.matches("\\d{13}")) {
+			return false;
+		}
+		return isbn13CheckDigit(isbn.substring(0, 12)) == isbn.charAt(12) - '0';
+	}
+
+	private static String toIsbn13(String isbn10) {
+		String body = "978" + isbn10.substring(0, 9);
+		return body + isbn13CheckDigit(body);
+	}
+
+	// 978 접두어 ISBN-13만 ISBN-10으로 되돌릴 수 있다
+	private static String toIsbn10(String isbn13) {
+		if (!isValidIsbn13(isbn13) || !isbn13.startsWith("978")) {
+			return null;
+		}
+
+		String body = isbn13.substring(3, 12);
+		int sum = 0;
+		for (int i = 0; i < 9; i++) {
+			sum += (10 - i) * (body.charAt(i) - '0');
+		}
+		int check = (11 - sum % 11) % 11;
+		return body + (check == 10 ? "X" : String.valueOf(check));
+	}
+
+	private static int isbn13CheckDigit(String first12) {
+		int sum = 0;
+		for (int i = 0; i < 12; i++) {
+			sum += (first12.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+		}
+		return (10 - sum % 10) % 10;
+	}
+
+	private static String clean(String token) {
+		return token.replace("-", "").toUpperCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.seolab.util;
+
+import java.util.Arrays;
+
+// 최근 N개 응답 시간의 분위수를 추적하는 고정 크기 링 버퍼
+// 분위수는 요청마다 정렬하지 않고 refreshInterval건이 새로 기록될 때마다 다시 계산한다
+public class LatencyTracker {
+
+	private final long[] samples;
+	private final int refreshInterval;
+	private int next;
+	private int count;
+	private long recorded;
+
+	// 마지막으로 계산한 분위수
+	private double cachedPercentile = Double.NaN;
+	private long cachedValue;
+	private long cachedAtRecorded;
+
+	public LatencyTracker(int capacity) {
+		this(capacity, Math.max(1, capacity / 16));
+	}
+
+	public LatencyTracker(int capacity, int refreshInterval) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity는 0보다 커야 합니다.");
+		}
+		if (refreshInterval <= 0) {
+			throw new IllegalArgumentException("refreshInterval은 0보다 커야 합니다.");
+		}
+		this.samples = new long[capacity];
+		this.refreshInterval = refreshInterval;
+	}
+
+	public synchronized void record(long nanos) {
+		samples[next] = nanos;
+		next = (next + 1) % samples.length;
+		count = Math.min(count + 1, samples.length);
+		recorded++;
+	}
+
+	public synchronized int sampleCount() {
+		return count;
+	}
+
+	// percentile: 0.0 ~ 1.0, 샘플이 없으면 -1
+	public long percentile(double percentile) {
+		long[] snapshot;
+		long snapshotRecorded;
+		synchronized (this) {
+			if (count == 0) {
+				return -1;
+			}
+			if (percentile == cachedPercentile && recorded - cachedAtRecorded < refreshInterval) {
+				return cachedValue;
+			}
+			snapshot = Arrays.copyOf(samples, count);
+			snapshotRecorded = recorded;
+		}
+
+		Arrays.sort(snapshot);
+		int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+		long value = snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+
+		synchronized (this) {
+			if (snapshotRecorded >= cachedAtRecorded || percentile != cachedPercentile) {
+				cachedPercentile = percentile;
+				cachedValue = value;
+				cachedAtRecorded = snapshotRecorded;
+			}
+		}
+		return value;
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.seolab.util;
+
+import java.util.concurrent.TimeUnit;
+
+// 초당 허용량에 맞춰 호출 간격을 벌려주는 단순 블로킹 rate limiter
+public class RateLimiter {
+
+	private final long intervalNanos;
+	private long nextPermitAt;
+
+	public RateLimiter(double permitsPerSecond) {
+		if (permitsPerSecond <= 0) {
+			throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다.");
+		}
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.nextPermitAt = System.nanoTime();
+	}
+
+	public void acquire() throws InterruptedException {
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long permitAt = Math.max(now, nextPermitAt);
+			nextPermitAt = permitAt + intervalNanos;
+			waitNanos = permitAt - now;
+		}
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package com.example.seolab.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 문자열 배열 JSON(["a", "b"]) 전용 파서/작성기
+// Book.authors, translators처럼 짧은 문자열 몇 개짜리 배열을 Jackson 트리/리플렉션 없이 바로 읽고 쓴다
+public final class StringListJson {
+
+	private StringListJson() {
+	}
+
+	// 결과는 변경 불가 리스트 (JSON null이면 null), 문자열 배열이 아니면 IllegalArgumentException
+	public static List<String> parse(CharSequence json) {
+		Parser parser = new Parser(json);
+		parser.skipWhitespace();
+		if (parser.consumeLiteral("null")) {
+			parser.expectEnd();
+			return null;
+		}
+
+		parser.expect('[');
+		parser.skipWhitespace();
+		if (parser.consume(']')) {
+			parser.expectEnd();
+			return List.of();
+		}
+
+		List<String> values = new ArrayList<>(4);
+		while (true) {
+			parser.skipWhitespace();
+			values.add(parser.readString());
+			parser.skipWhitespace();
+			if (parser.consume(']')) {
+				break;
+			}
+			parser.expect(',');
+		}
+		parser.expectEnd();
+		return List.copyOf(values);
+	}
+
+	public static String write(List<String> values) {
+		if (values == null) {
+			return "null";
+		}
+
+		int length = 2;
+		for (String value : values) {
+			length += (value != null ? value.length() : 2) + 3;
+		}
+		StringBuilder builder = new StringBuilder(length);
+		builder.append('[');
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			String value = values.get(i);
+			if (value == null) {
+				builder.append("null");
+			} else {
+				appendQuoted(builder, value);
+			}
+		}
+		return builder.append(']').toString();
+	}
+
+	private static void appendQuoted(StringBuilder builder, String value) {
+		builder.append('"');
+		int start = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c != '"' && c != '\\' && c >= 0x20) {
+				continue;
+			}
+			builder.append(value, start, i);
+			switch (c) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				case '\b' -> builder.append("\\b");
+				case '\f' -> builder.append("\\f");
+				default -> builder.append(String.format("\\u%04x", (int) c));
+			}
+			start = i + 1;
+		}
+		builder.append(value, start, value.length()).append('"');
+	}
+
+	private static final class Parser {
+
+		private final CharSequence json;
+		private int position;
+
+		private Parser(CharSequence json) {
+			this.json = json;
+		}
+
+		private void skipWhitespace() {
+			while (position < json.length()) {
+				char c = json.charAt(position);
+				if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+					return;
+				}
+				position++;
+			}
+		}
+
+		private boolean consume(char expected) {
+			if (position < json.length() && json.charAt(position) == expected) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char expected) {
+			if (!consume(expected)) {
+				throw error("'" + expected + "' 필요");
+			}
+		}
+
+		private boolean consumeLiteral(String literal) {
+			int end = position + literal.length();
+			if (end > json.length()) {
+				return false;
+			}
+			for (int i = 0; i < literal.length(); i++) {
+				if (json.charAt(position + i) != literal.charAt(i)) {
+					return false;
+				}
+			}
+			position = end;
+			return true;
+		}
+
+		private void expectEnd() {
+			skipWhitespace();
+			if (position != json.length()) {
+				throw error("배열 뒤에 남은 내용");
+			}
+		}
+
+		// 이스케이프가 없으면 원본을 그대로 잘라 쓴다
+		private String readString() {
+			expect('"');
+			int start = position;
+			while (position < json.length()) {
+				char c = json.charAt(position);
+				if (c == '"') {
+					String value = json.subSequence(start, position).toString();
+					position++;
+					return value;
+				}
+				if (c == '\\') {
+					return readEscapedString(start);
+				}
+				if (c < 0x20) {
+					throw error("문자열 안의 제어 문자");
+				}
+				position++;
+			}
+			throw error("닫히지 않은 문자열");
+		}
+
+		private String readEscapedString(int start) {
+			StringBuilder builder = new StringBuilder(position - start + 16);
+			builder.append(json, start, position);
+			while (position < json.length()) {
+				char c = json.charAt(position++);
+				if (c == '"') {
+					return builder.toString();
+				}
+				if (c < 0x20) {
+					throw error("문자열 안의 제어 문자");
+				}
+				if (c != '\\') {
+					builder.append(c);
+					continue;
+				}
+				if (position >= json.length()) {
+					break;
+				}
+				char escaped = json.charAt(position++);
+				switch (escaped) {
+					case '"', '\\', '/' -> builder.append(escaped);
+					case 'n' -> builder.append('\n');
+					case 'r' -> builder.append('\r');
+					case 't' -> builder.append('\t');
+					case 'b' -> builder.append('\b');
+					case 'f' -> builder.append('\f');
+					case 'u' -> builder.append(readUnicode());
+					default -> throw error("잘못된 이스케이프");
+				}
+			}
+			throw error("닫히지 않은 문자열");
+		}
+
+		// 서로게이트 쌍은 이스케이프 두 개로 나뉘어 오므로 한 글자씩 그대로 붙이면 된다
+		private char readUnicode() {
+			if (position + 4 > json.length()) {
+				throw error("잘못된 유니코드 이스케이프");
+			}
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(json.charAt(position++), 16);
+				if (digit < 0) {
+					throw error("잘못된 유니코드 이스케이프");
+				}
+				value = (value << 4) | digit;
+			}
+			return (char) value;
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException("문자열 배열 JSON이 아닙니다: " + message + " (위치 " + position + ")");
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.example.seolab.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Symmetric Delete 맞춤법 교정 사전
+// 사전 단어의 삭제 변형을 미리 색인해 두면 조회 시 입력의 삭제 변형만 찾아보면 된다
+public class SymSpell {
+
+	private final int maxEditDistance;
+	private final int prefixLength;
+	private final Map<String, Long> words = new HashMap<>();
+	private final Map<String, List<String>> deletes = new HashMap<>();
+
+	public SymSpell(int maxEditDistance, int prefixLength) {
+		if (maxEditDistance < 0 || prefixLength <= maxEditDistance) {
+			throw new IllegalArgumentException("prefixLength는 maxEditDistance보다 커야 합니다.");
+		}
+		this.maxEditDistance = maxEditDistance;
+		this.prefixLength = prefixLength;
+	}
+
+	public void addWord(String word, long count) {
+		if (word == null || word.isEmpty() || count <= 0) {
+			return;
+		}
+
+		boolean isNewWord = !words.containsKey(word);
+		words.merge(word, count, Long::sum);
+		if (!isNewWord) {
+			return;
+		}
+
+		for (String delete : deleteVariants(prefix(word))) {
+			deletes.computeIfAbsent(delete, key -> new ArrayList<>(1)).add(word);
+		}
+	}
+
+	public boolean contains(String word) {
+		return words.containsKey(word);
+	}
+
+	public int size() {
+		return words.size();
+	}
+
+	public List<Suggestion> lookup(String input, int limit) {
+		Long exactCount = words.get(input);
+		if (exactCount != null) {
+			return List.of(new Suggestion(input, 0, exactCount));
+		}
+
+		Set<String> checked = new HashSet<>();
+		List<Suggestion> suggestions = new ArrayList<>();
+		for (String delete : deleteVariants(prefix(input))) {
+			List<String> candidates = deletes.get(delete);
+			if (candidates == null) {
+				continue;
+			}
+			for (String candidate : candidates) {
+				if (!checked.add(candidate) || Math.abs(candidate.length() - input.length()) > maxEditDistance) {
+					continue;
+				}
+				int distance = distance(input, candidate, maxEditDistance);
+				if (distance >= 0) {
+					suggestions.add(new Suggestion(candidate, distance, words.get(candidate)));
+				}
+			}
+		}
+
+		suggestions.sort(Comparator.comparingInt(Suggestion::distance)
+			.thenComparing(Comparator.comparingLong(Suggestion::count).reversed())
+			.thenComparing(Suggestion::term));
+		return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+	}
+
+	private String prefix(String word) {
+		return word.length() > prefixLength ? word.substring(0, prefixLength) : word;
+	}
+
+	// 자기 자신을 포함해 maxEditDistance 글자까지 지운 모든 변형
+	private Set<String> deleteVariants(String word) {
+		Set<String> variants = new HashSet<>();
+		variants.add(word);
+		List<String> frontier = List.of(word);
+		for (int distance = 0; distance < maxEditDistance; distance++) {
+			List<String> next = new ArrayList<>();
+			for (String current : frontier) {
+				if (current.length() <= 1) {
+					continue;
+				}
+				for (int i = 0; i < current.length(); i++) {
+					String delete = current.substring(0, i) + current.substring(i + 1);
+					if (variants.add(delete)) {
+						next.add(delete);
+					}
+				}
+			}
+			frontier = next;
+		}
+		return variants;
+	}
+
+	// 인접 문자 교환을 1회 편집으로 보는 Damerau-Levenshtein(OSA) 거리, max 초과 시 -1
+	static int distance(String source, String target, int max) {
+		int sourceLength = source.length();
+		int targetLength = target.length();
+		int[] previousPrevious = new int[targetLength + 1];
+		int[] previous = new int[targetLength + 1];
+		int[] current = new int[targetLength + 1];
+		for (int j = 0; j <= targetLength; j++) {
+			previous[j] = j;
+		}
+
+		for (int i = 1; i <= sourceLength; i++) {
+			current[0] = i;
+			int rowMin = current[0];
+			for (int j = 1; j <= targetLength; j++) {
+				int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+				int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+				if (i > 1 && j > 1
+					&& source.charAt(i - 1) == target.charAt(j - 2)
+					&& source.charAt(i - 2) == target.charAt(j - 1)) {
+					value = Math.min(value, previousPrevious[j - 2] + 1);
+				}
+				current[j] = value;
+				rowMin = Math.min(rowMin, value);
+			}
+			if (rowMin > max) {
+				return -1;
+			}
+			int[] recycled = previousPrevious;
+			previousPrevious = previous;
+			previous = current;
+			current = recycled;
+		}
+
+		int result = previous[targetLength];
+		return result <= max ? result : -1;
+	}
+
+	public record Suggestion(String term, int distance, long count) {
+	}
+}
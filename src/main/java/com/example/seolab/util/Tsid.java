@@ -0,0 +1,54 @@
+package com.example.seolab.util;
+
+import java.time.Instant;
+
+// 시간순으로 정렬되는 53비트 ID (JavaScript Number로 손실 없이 표현 가능)
+// [41비트 밀리초 (2024-01-01 기준, 약 69년)][4비트 노드][8비트 순번]
+// 애플리케이션에서 미리 만들 수 있어 IDENTITY와 달리 Hibernate/JDBC 배치 insert가 가능하다
+public final class Tsid {
+
+	private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+	private static final int NODE_BITS = 4;
+	private static final int COUNTER_BITS = 8;
+
+	public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+	private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+	private static volatile int nodeId = 0;
+
+	private static long lastMillis = -1;
+	private static int counter = 0;
+
+	private Tsid() {
+	}
+
+	// 여러 인스턴스를 띄울 때는 인스턴스마다 다른 값을 설정해야 한다 (id.node-id)
+	public static void setNodeId(int value) {
+		if (value < 0 || value > MAX_NODE_ID) {
+			throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다.");
+		}
+		nodeId = value;
+	}
+
+	public static synchronized long next() {
+		long millis = System.currentTimeMillis() - EPOCH_MILLIS;
+
+		// 시계가 뒤로 가도 이전 값보다 작은 ID를 만들지 않는다
+		if (millis <= lastMillis) {
+			millis = lastMillis;
+			if (counter == MAX_COUNTER) {
+				// 1ms 안에 순번을 다 쓰면 다음 밀리초 값을 미리 사용
+				millis++;
+				counter = 0;
+			} else {
+				counter++;
+			}
+		} else {
+			counter = 0;
+		}
+		lastMillis = millis;
+
+		return (millis << (NODE_BITS + COUNTER_BITS)) | ((long) nodeId << COUNTER_BITS) | counter;
+	}
+}
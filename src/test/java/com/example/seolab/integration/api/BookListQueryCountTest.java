@@ -0,0 +1,133 @@
+package com.example.seolab.integration.api;
+
+import com.example.seolab.entity.Book;
+import com.example.seolab.entity.Quote;
+import com.example.seolab.entity.User;
+import com.example.seolab.entity.UserBook;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.QuoteRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.repository.UserRepository;
+import com.example.seolab.security.JwtUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("서재 목록 쿼리 수 테스트")
+class BookListQueryCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private UserBookRepository userBookRepository;
+
+	@Autowired
+	private QuoteRepository quoteRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User testUser;
+	private String accessToken;
+	private int bookSequence;
+
+	@BeforeEach
+	void setUp() {
+		quoteRepository.deleteAll();
+		userBookRepository.deleteAll();
+		bookRepository.deleteAll();
+		userRepository.deleteAll();
+
+		testUser = userRepository.save(User.builder()
+			.email("test@example.com")
+			.username("test")
+			.passwordHash("encoded")
+			.build());
+		accessToken = jwtUtil.generateAccessToken(testUser);
+	}
+
+	@Test
+	@DisplayName("GET /api/books - 책 수가 늘어도 실행되는 쿼리 수는 같다")
+	void getUserBooks_runsConstantNumberOfQueries() throws Exception {
+		// given
+		addBooks(2);
+		long smallShelf = countStatements(2);
+
+		addBooks(28);
+
+		// when
+		long largeShelf = countStatements(30);
+
+		// then
+		assertThat(largeShelf).isEqualTo(smallShelf);
+	}
+
+	private void addBooks(int count) {
+		for (int i = 0; i < count; i++) {
+			int sequence = ++bookSequence;
+			Book book = bookRepository.save(Book.builder()
+				.title("책" + sequence)
+				.authors(List.of("저자" + sequence))
+				.publisher("출판사")
+				.build());
+			UserBook userBook = userBookRepository.save(UserBook.builder()
+				.user(testUser)
+				.book(book)
+				.isReading(sequence % 2 == 0)
+				.build());
+			quoteRepository.save(Quote.builder()
+				.userBook(userBook).text("문장" + sequence).page(1).build());
+		}
+	}
+
+	// 영속성 컨텍스트를 비운 상태에서 목록을 조회하고 그동안 준비된 SQL 수를 센다
+	private long countStatements(int expectedBooks) throws Exception {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		mockMvc.perform(get("/api/books")
+				.header("Authorization", "Bearer " + accessToken))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$", hasSize(expectedBooks)))
+			.andExpect(jsonPath("$[0].quoteCount").value(1));
+
+		return statistics.getPrepareStatementCount();
+	}
+}
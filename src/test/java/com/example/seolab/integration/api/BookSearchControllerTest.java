@@ -0,0 +1,151 @@
+package com.example.seolab.integration.api;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.entity.User;
+import com.example.seolab.repository.UserRepository;
+import com.example.seolab.security.JwtUtil;
+import com.example.seolab.service.BookSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("Book Search API 통합 테스트")
+class BookSearchControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@MockitoBean
+	private BookSearchService bookSearchService;
+
+	private User testUser;
+	private String accessToken;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll();
+
+		testUser = userRepository.save(User.builder()
+			.email("test@example.com")
+			.username("test")
+			.passwordHash("encoded")
+			.build());
+		accessToken = jwtUtil.generateAccessToken(testUser);
+	}
+
+	@Test
+	@DisplayName("GET /api/books/search - 비동기 재디스패치에서도 인증된 요청으로 결과를 반환한다")
+	void searchBooks_withAuthentication_returnsResultOnAsyncDispatch() throws Exception {
+		// given
+		when(bookSearchService.searchBooksAsync(eq(testUser.getUserId()), eq("자바"), isNull(), eq(1), eq(10)))
+			.thenReturn(Mono.just(searchResponse("\"abc\"")));
+
+		MvcResult result = mockMvc.perform(get("/api/books/search")
+				.param("query", "자바")
+				.header("Authorization", "Bearer " + accessToken))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when & then
+		mockMvc.perform(asyncDispatch(result))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", "\"abc\""))
+			.andExpect(jsonPath("$.totalCount").value(1))
+			.andExpect(jsonPath("$.books[0].title").value("자바의 정석"));
+	}
+
+	@Test
+	@DisplayName("GET /api/books/search - If-None-Match가 ETag와 일치하면 본문 없이 304를 반환한다")
+	void searchBooks_matchingIfNoneMatch_returns304() throws Exception {
+		// given
+		when(bookSearchService.searchBooksAsync(eq(testUser.getUserId()), eq("자바"), isNull(), eq(1), eq(10)))
+			.thenReturn(Mono.just(searchResponse("abc")));
+
+		MvcResult result = mockMvc.perform(get("/api/books/search")
+				.param("query", "자바")
+				.header("Authorization", "Bearer " + accessToken)
+				.header("If-None-Match", "\"abc\""))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when & then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", "\"abc\""))
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("GET /api/books/search - ETag가 다르면 private 캐시 헤더와 함께 본문을 반환한다")
+	void searchBooks_staleIfNoneMatch_returnsBody() throws Exception {
+		// given
+		when(bookSearchService.searchBooksAsync(eq(testUser.getUserId()), eq("자바"), isNull(), eq(1), eq(10)))
+			.thenReturn(Mono.just(searchResponse("abc")));
+
+		MvcResult result = mockMvc.perform(get("/api/books/search")
+				.param("query", "자바")
+				.header("Authorization", "Bearer " + accessToken)
+				.header("If-None-Match", "\"old\""))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when & then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", "\"abc\""))
+			.andExpect(header().string("Cache-Control", containsString("private")))
+			.andExpect(header().stringValues("Vary", hasItem("Authorization")))
+			.andExpect(jsonPath("$.books[0].title").value("자바의 정석"));
+	}
+
+	@Test
+	@DisplayName("GET /api/books/search - 인증 없이 요청하면 401을 반환한다")
+	void searchBooks_withoutAuthentication_returns401() throws Exception {
+		// when & then
+		mockMvc.perform(get("/api/books/search")
+				.param("query", "자바"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	private BookSearchResponse searchResponse(String etag) {
+		return BookSearchResponse.builder()
+			.books(List.of(BookDto.builder().title("자바의 정석").isbn("9788994492032").build()))
+			.totalCount(1)
+			.isEnd(true)
+			.etag(etag)
+			.build();
+	}
+}
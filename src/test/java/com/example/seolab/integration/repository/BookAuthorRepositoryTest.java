@@ -0,0 +1,91 @@
+package com.example.seolab.integration.repository;
+
+import com.example.seolab.entity.Book;
+import com.example.seolab.entity.BookAuthor;
+import com.example.seolab.repository.BookAuthorRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.projection.BookAuthorNames;
+import com.example.seolab.repository.projection.CatalogBookSummary;
+import com.example.seolab.util.AuthorNames;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("BookAuthorRepository 통합 테스트")
+class BookAuthorRepositoryTest {
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BookAuthorRepository bookAuthorRepository;
+
+	@Test
+	@DisplayName("저자별 책 목록을 bookId 커서로 이어서 조회할 수 있다")
+	void findBooksByAuthor_pagesWithCursor() {
+		// given
+		Book first = saveWithAuthors("책1", "저자A");
+		Book second = saveWithAuthors("책2", "저자A", "저자B");
+		Book third = saveWithAuthors("책3", "저자A");
+		saveWithAuthors("책4", "저자B");
+
+		// when
+		List<CatalogBookSummary> firstPage = bookAuthorRepository.findBooksByAuthor(
+			AuthorNames.normalize("저자 A"), Long.MAX_VALUE, PageRequest.of(0, 2));
+		List<CatalogBookSummary> secondPage = bookAuthorRepository.findBooksByAuthor(
+			AuthorNames.normalize("저자 A"), firstPage.get(1).getBookId(), PageRequest.of(0, 2));
+
+		// then
+		assertThat(firstPage).extracting(CatalogBookSummary::getBookId)
+			.containsExactly(third.getBookId(), second.getBookId());
+		assertThat(secondPage).extracting(CatalogBookSummary::getBookId)
+			.containsExactly(first.getBookId());
+		assertThat(secondPage.get(0).getTitle()).isEqualTo("책1");
+	}
+
+	@Test
+	@DisplayName("저자 색인이 없는 책만 보정 대상으로 조회된다")
+	void findWithoutAuthorRows_returnsBooksWithoutIndex() {
+		// given
+		saveWithAuthors("색인된 책", "저자A");
+		Book missing = bookRepository.save(Book.builder()
+			.title("색인 없는 책")
+			.authors(List.of("저자C"))
+			.publisher("출판사")
+			.build());
+
+		// when
+		List<BookAuthorNames> candidates = bookRepository.findWithoutAuthorRows(Long.MIN_VALUE, PageRequest.of(0, 10));
+
+		// then
+		assertThat(candidates).extracting(BookAuthorNames::getBookId).containsExactly(missing.getBookId());
+		assertThat(candidates.get(0).getAuthors()).containsExactly("저자C");
+	}
+
+	private Book saveWithAuthors(String title, String... authors) {
+		Book book = bookRepository.save(Book.builder()
+			.title(title)
+			.authors(List.of(authors))
+			.publisher("출판사")
+			.build());
+		for (int i = 0; i < authors.length; i++) {
+			bookAuthorRepository.save(BookAuthor.builder()
+				.bookId(book.getBookId())
+				.normalizedName(AuthorNames.normalize(authors[i]))
+				.name(authors[i])
+				.authorOrder(i)
+				.build());
+		}
+		bookAuthorRepository.flush();
+		return book;
+	}
+}
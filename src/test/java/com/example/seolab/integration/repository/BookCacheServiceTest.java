@@ -0,0 +1,158 @@
+package com.example.seolab.integration.repository;
+
+import com.example.seolab.config.HibernateCacheConfig;
+import com.example.seolab.dto.response.CacheStatsResponse;
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.service.BookCacheService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋된 뒤에 채워지므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+@DataJpaTest
+@Import({HibernateCacheConfig.class, BookCacheService.class, BookJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@DisplayName("BookCacheService 통합 테스트")
+class BookCacheServiceTest {
+
+	private static final String ISBN = "9788937460777";
+	private static final String NEW_ISBN = "9788937460784";
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Autowired
+	private BookCacheService bookCacheService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Statistics statistics;
+
+	private Book book;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		book = bookRepository.save(Book.builder()
+			.title("데미안")
+			.authors(List.of("헤르만 헤세"))
+			.publisher("민음사")
+			.isbn(ISBN)
+			.build());
+		bookCacheService.evictAll();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		bookRepository.deleteAll();
+		bookCacheService.evictAll();
+	}
+
+	@Test
+	@DisplayName("한 번 읽은 책은 다시 읽을 때 DB를 조회하지 않고 통계에 적중으로 남는다")
+	void findById_secondLoad_servedFromCache() {
+		// given
+		bookRepository.findById(book.getBookId());
+		long statements = statistics.getPrepareStatementCount();
+
+		// when
+		Book cached = bookRepository.findById(book.getBookId()).orElseThrow();
+
+		// then
+		assertThat(cached.getTitle()).isEqualTo("데미안");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+		CacheStatsResponse bookRegion = bookCacheService.getStatistics().get(0);
+		assertThat(bookRegion.getRegion()).isEqualTo(HibernateCacheConfig.BOOK_REGION);
+		assertThat(bookRegion.isStatisticsEnabled()).isTrue();
+		assertThat(bookRegion.getHitCount()).isEqualTo(1);
+		assertThat(bookRegion.getMissCount()).isEqualTo(1);
+		assertThat(bookRegion.getPutCount()).isPositive();
+		assertThat(bookRegion.getHitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("evict 후에는 DB에서 다시 읽는다")
+	void evict_forcesReload() {
+		// given
+		bookRepository.findById(book.getBookId());
+
+		// when
+		bookCacheService.evict(book.getBookId());
+		long statements = statistics.getPrepareStatementCount();
+		bookRepository.findById(book.getBookId());
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements + 1);
+	}
+
+	@Test
+	@DisplayName("evictAll 후에는 DB에서 다시 읽는다")
+	void evictAll_forcesReload() {
+		// given
+		bookRepository.findById(book.getBookId());
+
+		// when
+		bookCacheService.evictAll();
+		long statements = statistics.getPrepareStatementCount();
+		bookRepository.findById(book.getBookId());
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements + 1);
+	}
+
+	@Test
+	@DisplayName("ISBN 조회도 캐시되고, JDBC로 ISBN을 바꾼 뒤 예전 ISBN 항목을 지우면 더 이상 찾지 않는다")
+	void findByNaturalIsbn_cachedAndEvictedAfterJdbcIsbnChange() {
+		// given
+		findByNaturalIsbn(ISBN);
+		long statements = statistics.getPrepareStatementCount();
+		assertThat(findByNaturalIsbn(ISBN)).isPresent();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+		// when
+		bookJdbcRepository.updateIsbn(book.getBookId(), NEW_ISBN);
+		bookCacheService.evict(book.getBookId());
+		bookCacheService.evictIsbns(List.of(ISBN, NEW_ISBN));
+
+		// then
+		assertThat(findByNaturalIsbn(ISBN)).isEmpty();
+		assertThat(findByNaturalIsbn(NEW_ISBN))
+			.get()
+			.extracting(Book::getBookId)
+			.isEqualTo(book.getBookId());
+	}
+
+	// natural id 조회는 Session을 직접 쓰므로 트랜잭션 안에서 호출
+	private Optional<Book> findByNaturalIsbn(String isbn) {
+		return new TransactionTemplate(transactionManager).execute(status -> bookRepository.findByNaturalIsbn(isbn));
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.seolab.integration.repository;
+
+import com.example.seolab.entity.Book;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+// JDBC 배치 크기 1은 IDENTITY 시절처럼 책마다 insert 한 번씩 왕복하는 경우와 같다
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.jdbc.batch_size=50",
+	"spring.jpa.properties.hibernate.order_inserts=true",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Book 대량 insert 벤치마크")
+class BookInsertBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(BookInsertBenchmarkTest.class);
+
+	private static final int ROWS = 5_000;
+	private static final int FLUSH_INTERVAL = 500;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("JDBC 배치를 쓰면 insert 문 준비 횟수와 소요 시간이 줄어든다")
+	void bulkInsert_batchedVsRowByRow() {
+		// warm-up
+		insertBooks("warmup", 50);
+
+		// when
+		Result rowByRow = insertBooks("row", 1);
+		Result batched = insertBooks("batch", 50);
+
+		// then
+		log.info("row-by-row: {} statements, {} ms ({} rows/s)",
+			rowByRow.statements(), rowByRow.millis(), Math.round(rowByRow.rowsPerSecond()));
+		log.info("batched(50): {} statements, {} ms ({} rows/s)",
+			batched.statements(), batched.millis(), Math.round(batched.rowsPerSecond()));
+		assertThat(batched.statements()).isLessThan(rowByRow.statements());
+	}
+
+	private Result insertBooks(String prefix, int jdbcBatchSize) {
+		Session session = entityManager.unwrap(Session.class);
+		session.setJdbcBatchSize(jdbcBatchSize);
+		Statistics statistics = session.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ROWS; i++) {
+			entityManager.persist(Book.builder()
+				.title(prefix + " 책 " + i)
+				.authors(List.of("저자" + i))
+				.publisher("출판사")
+				.build());
+			if ((i + 1) % FLUSH_INTERVAL == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		long millis = (System.nanoTime() - start) / 1_000_000;
+
+		return new Result(statistics.getPrepareStatementCount(), millis);
+	}
+
+	private record Result(long statements, long millis) {
+		double rowsPerSecond() {
+			return millis > 0 ? ROWS * 1000.0 / millis : ROWS;
+		}
+	}
+}
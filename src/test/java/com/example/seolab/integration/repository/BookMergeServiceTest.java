@@ -0,0 +1,173 @@
+package com.example.seolab.integration.repository;
+
+import com.example.seolab.dto.response.BookMergeResponse;
+import com.example.seolab.entity.Book;
+import com.example.seolab.entity.BookAuthor;
+import com.example.seolab.entity.Quote;
+import com.example.seolab.entity.User;
+import com.example.seolab.entity.UserBook;
+import com.example.seolab.repository.BookAuthorRepository;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.QuoteRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.repository.UserRepository;
+import com.example.seolab.service.BookCacheService;
+import com.example.seolab.service.BookIsbnConstraintService;
+import com.example.seolab.service.BookMergeService;
+import com.example.seolab.service.BookStatsService;
+import com.example.seolab.service.CatalogBookService;
+import com.example.seolab.service.OwnedBookLookupService;
+import com.example.seolab.util.AuthorNames;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({BookMergeService.class, BookJdbcRepository.class, BookCacheService.class})
+@ActiveProfiles("test")
+@DisplayName("BookMergeService 통합 테스트")
+class BookMergeServiceTest {
+
+	@Autowired
+	private BookMergeService bookMergeService;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BookAuthorRepository bookAuthorRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserBookRepository userBookRepository;
+
+	@Autowired
+	private QuoteRepository quoteRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockitoBean
+	private BookStatsService bookStatsService;
+
+	@MockitoBean
+	private CatalogBookService catalogBookService;
+
+	@MockitoBean
+	private OwnedBookLookupService ownedBookLookupService;
+
+	@MockitoBean
+	private BookIsbnConstraintService bookIsbnConstraintService;
+
+	@Test
+	@DisplayName("중복 책을 합치면 사용자 책과 문장이 남는 책으로 옮겨지고 중복 행은 지워진다")
+	void merge_movesUserBooksAndQuotesToWinner() {
+		// given: ISBN-10으로 저장된 책(먼저 생성 → 남는 책)과 ISBN 없이 저장된 같은 책
+		Book winner = saveBook("데미안", "8937460777");
+		Book loser = saveBook("데미안", null);
+		saveAuthor(loser, "헤르만 헤세");
+
+		User owner = saveUser("owner@example.com", "owner");
+		User other = saveUser("other@example.com", "other");
+
+		// owner는 두 책을 모두 가지고 있다 (지워질 책 쪽을 먼저 추가)
+		UserBook ownerOnLoser = saveUserBook(owner, loser);
+		UserBook ownerOnWinner = saveUserBook(owner, winner);
+		UserBook otherOnLoser = saveUserBook(other, loser);
+		Quote movedQuote = quoteRepository.save(Quote.builder().userBook(ownerOnLoser).text("문장").page(1).build());
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		BookMergeResponse response = bookMergeService.merge(false);
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		assertThat(response.getClusters()).isEqualTo(1);
+		assertThat(response.getMergedBooks()).isEqualTo(1);
+		assertThat(response.getRemovedUserBooks()).isEqualTo(1);
+		assertThat(response.getMovedUserBooks()).isEqualTo(1);
+
+		// 남는 책에 연결된 사용자 책을 남기고 (unique_user_book), 문장은 그쪽으로 옮긴다
+		assertThat(userBookRepository.findById(ownerOnLoser.getUserBookId())).isEmpty();
+		assertThat(userBookRepository.findById(ownerOnWinner.getUserBookId())).isPresent();
+		assertThat(quoteRepository.findById(movedQuote.getQuoteId()).orElseThrow()
+			.getUserBook().getUserBookId()).isEqualTo(ownerOnWinner.getUserBookId());
+
+		// 다른 사용자의 책은 남는 책을 가리킨다
+		assertThat(userBookRepository.findById(otherOnLoser.getUserBookId()).orElseThrow()
+			.getBook().getBookId()).isEqualTo(winner.getBookId());
+
+		// 지워진 책과 저자 색인, 남는 책의 ISBN-13
+		assertThat(bookRepository.findById(loser.getBookId())).isEmpty();
+		assertThat(bookAuthorRepository.findBooksByAuthor(AuthorNames.normalize("헤르만 헤세"), Long.MAX_VALUE,
+			PageRequest.of(0, 10))).isEmpty();
+		assertThat(bookRepository.findById(winner.getBookId()).orElseThrow().getIsbn()).isEqualTo("9788937460777");
+	}
+
+	@Test
+	@DisplayName("dryRun이면 대상만 집계하고 데이터는 바꾸지 않는다")
+	void merge_dryRun_doesNotModify() {
+		// given
+		Book winner = saveBook("데미안", "8937460777");
+		Book loser = saveBook("데미안", null);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		BookMergeResponse response = bookMergeService.merge(true);
+
+		// then
+		assertThat(response.isDryRun()).isTrue();
+		assertThat(response.getMergedBooks()).isEqualTo(1);
+		assertThat(bookRepository.findById(loser.getBookId())).isPresent();
+		assertThat(bookRepository.findById(winner.getBookId()).orElseThrow().getIsbn()).isEqualTo("8937460777");
+	}
+
+	private Book saveBook(String title, String isbn) {
+		return bookRepository.save(Book.builder()
+			.title(title)
+			.authors(List.of("헤르만 헤세"))
+			.publisher("민음사")
+			.isbn(isbn)
+			.build());
+	}
+
+	private void saveAuthor(Book book, String author) {
+		bookAuthorRepository.save(BookAuthor.builder()
+			.bookId(book.getBookId())
+			.normalizedName(AuthorNames.normalize(author))
+			.name(author)
+			.authorOrder(0)
+			.build());
+	}
+
+	private User saveUser(String email, String username) {
+		return userRepository.save(User.builder()
+			.email(email)
+			.username(username)
+			.passwordHash("encodedPassword123")
+			.build());
+	}
+
+	private UserBook saveUserBook(User user, Book book) {
+		return userBookRepository.saveAndFlush(UserBook.builder()
+			.user(user)
+			.book(book)
+			.build());
+	}
+}
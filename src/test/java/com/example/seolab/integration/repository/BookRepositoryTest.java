@@ -1,13 +1,19 @@
 package com.example.seolab.integration.repository;
 
 import com.example.seolab.entity.Book;
+import com.example.seolab.entity.User;
+import com.example.seolab.entity.UserBook;
 import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.projection.BookTitleAuthors;
+import com.example.seolab.util.BookFingerprint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -24,6 +30,9 @@ class BookRepositoryTest {
 	@Autowired
 	private BookRepository bookRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	private Book testBook;
 
 	@BeforeEach
@@ -83,6 +92,22 @@ class BookRepositoryTest {
 		assertThat(exists).isTrue();
 	}
 
+	@Test
+	@DisplayName("저장 시 계산된 fingerprint로 책을 찾을 수 있다")
+	void findFirstByFingerprint_returnsBook() {
+		// given
+		bookRepository.save(testBook);
+
+		// when - 공백, 대소문자가 달라도 같은 fingerprint
+		Optional<Book> found = bookRepository.findFirstByFingerprint(
+			BookFingerprint.of("테스트  책 ", "저자1", "테스트 출판사"));
+
+		// then
+		assertThat(found).isPresent();
+		assertThat(found.get().getFingerprint()).hasSize(64);
+		assertThat(found.get().getIsbn()).isEqualTo("1234567890");
+	}
+
 	@Test
 	@Disabled("H2는 JSON_CONTAINS를 지원하지 않음 - MySQL 환경에서만 테스트")
 	@DisplayName("제목, 저자, 출판사로 책을 찾을 수 있다 (JSON 쿼리)")
@@ -217,6 +242,33 @@ class BookRepositoryTest {
 		assertThat(saved.getAuthors()).isEmpty();
 	}
 
+	@Test
+	@DisplayName("저자/번역자 JSON 컬럼을 DB에서 다시 읽고 수정 후 플러시할 수 있다")
+	void authorsAndTranslators_roundTripThroughDatabase() {
+		// given
+		Book noTranslatorBook = Book.builder()
+			.title("번역자 없음")
+			.authors(List.of("저자\"따옴표\"", "저자2"))
+			.publisher("출판사")
+			.isbn("9788937460777")
+			.translators(List.of())
+			.build();
+		Long bookId = entityManager.persistAndFlush(noTranslatorBook).getBookId();
+		entityManager.clear();
+
+		// when: DB에서 읽은 변경 불가 리스트로 로드, 스냅샷, 더티 체크를 거친다
+		Book loaded = entityManager.find(Book.class, bookId);
+		loaded.setTitle("번역자 없음 (개정판)");
+		entityManager.flush();
+		entityManager.clear();
+		Book reloaded = entityManager.find(Book.class, bookId);
+
+		// then
+		assertThat(reloaded.getTitle()).isEqualTo("번역자 없음 (개정판)");
+		assertThat(reloaded.getAuthors()).containsExactly("저자\"따옴표\"", "저자2");
+		assertThat(reloaded.getTranslators()).isEmpty();
+	}
+
 	@Test
 	@DisplayName("번역자 정보를 포함한 책을 저장하고 조회할 수 있다")
 	void saveBook_withTranslators() {
@@ -254,4 +306,50 @@ class BookRepositoryTest {
 		List<Book> allBooks = bookRepository.findAll();
 		assertThat(allBooks).hasSize(2);
 	}
+
+	@Test
+	@DisplayName("맞춤법 사전용 제목/저자를 bookId 커서로 이어서 조회할 수 있다")
+	void findTitleAuthorsAfter_pagesWithCursor() {
+		// given
+		Book first = bookRepository.save(Book.builder().title("책1").authors(List.of("저자1")).build());
+		Book second = bookRepository.save(Book.builder().title("책2").authors(List.of("저자2")).build());
+		Book third = bookRepository.save(Book.builder().title("책3").authors(List.of()).build());
+
+		// when
+		List<BookTitleAuthors> firstPage = bookRepository.findTitleAuthorsAfter(Long.MIN_VALUE, PageRequest.of(0, 2));
+		List<BookTitleAuthors> secondPage = bookRepository.findTitleAuthorsAfter(
+			firstPage.get(1).getBookId(), PageRequest.of(0, 2));
+
+		// then
+		assertThat(firstPage).extracting(BookTitleAuthors::getBookId)
+			.containsExactly(first.getBookId(), second.getBookId());
+		assertThat(firstPage.get(0).getAuthors()).containsExactly("저자1");
+		assertThat(secondPage).extracting(BookTitleAuthors::getTitle).containsExactly("책3");
+		assertThat(secondPage.get(0).getBookId()).isEqualTo(third.getBookId());
+	}
+
+	@Test
+	@DisplayName("플레이스홀더 생성 대상은 서재에 담긴 표지 있는 책만 조회한다")
+	void findOwnedWithoutPlaceholderAfter_returnsOnlyOwnedBooks() {
+		// given
+		Book owned = bookRepository.save(Book.builder().title("서재 책").authors(List.of("저자1"))
+			.thumbnail("https://example.com/owned.jpg").build());
+		Book catalogOnly = bookRepository.save(Book.builder().title("검색으로만 들어온 책").authors(List.of("저자2"))
+			.thumbnail("https://example.com/catalog.jpg").build());
+		User user = entityManager.persist(User.builder()
+			.email("reader@example.com")
+			.username("reader")
+			.passwordHash("encoded")
+			.build());
+		entityManager.persist(UserBook.builder().user(user).book(owned).build());
+		entityManager.flush();
+
+		// when
+		List<Book> books = bookRepository.findOwnedWithoutPlaceholderAfter(Long.MIN_VALUE, PageRequest.of(0, 10));
+
+		// then
+		assertThat(books).extracting(Book::getBookId)
+			.containsExactly(owned.getBookId())
+			.doesNotContain(catalogOnly.getBookId());
+	}
 }
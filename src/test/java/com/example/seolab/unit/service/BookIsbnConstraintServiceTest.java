@@ -0,0 +1,159 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookJdbcRepository.IsbnRow;
+import com.example.seolab.service.BookCacheService;
+import com.example.seolab.service.BookIsbnConstraintService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookIsbnConstraintService 단위 테스트")
+class BookIsbnConstraintServiceTest {
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Mock
+	private BookCacheService bookCacheService;
+
+	@InjectMocks
+	private BookIsbnConstraintService bookIsbnConstraintService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bookIsbnConstraintService, "backfillPageSize", 2);
+	}
+
+	@Test
+	@DisplayName("제약이 이미 있으면 아무것도 하지 않는다")
+	void ensureConstraint_present_doesNothing() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.hasIndex("unique_isbn")).thenReturn(true);
+
+		// when
+		boolean result = bookIsbnConstraintService.ensureConstraint();
+
+		// then
+		assertThat(result).isTrue();
+		verify(bookJdbcRepository, never()).addUniqueIsbnConstraint();
+	}
+
+	@Test
+	@DisplayName("제약이 없고 중복 ISBN이 남아 있으면 추가하지 않는다")
+	void ensureConstraint_duplicates_doesNotAdd() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.hasIndex("unique_isbn")).thenReturn(false);
+		when(bookJdbcRepository.countDuplicateIsbns()).thenReturn(3L);
+
+		// when
+		boolean result = bookIsbnConstraintService.ensureConstraint();
+
+		// then
+		assertThat(result).isFalse();
+		verify(bookJdbcRepository, never()).addUniqueIsbnConstraint();
+	}
+
+	@Test
+	@DisplayName("제약이 없고 중복이 없으면 제약을 추가한다")
+	void ensureConstraint_noDuplicates_addsConstraint() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.hasIndex("unique_isbn")).thenReturn(false);
+		when(bookJdbcRepository.countDuplicateIsbns()).thenReturn(0L);
+
+		// when
+		boolean result = bookIsbnConstraintService.ensureConstraint();
+
+		// then
+		assertThat(result).isTrue();
+		verify(bookJdbcRepository).addUniqueIsbnConstraint();
+	}
+
+	@Test
+	@DisplayName("MySQL이 아니면 확인하지 않는다")
+	void ensureConstraint_notMySql_skips() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(false);
+
+		// when
+		boolean result = bookIsbnConstraintService.ensureConstraint();
+
+		// then
+		assertThat(result).isTrue();
+		verify(bookJdbcRepository, never()).hasIndex(anyString());
+	}
+
+	@Test
+	@DisplayName("정규화 이전 ISBN-10을 페이지 단위로 ISBN-13으로 바꾸고 캐시를 비운다")
+	void normalizeLegacyIsbns_rewritesToIsbn13() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.findNonIsbn13After(0L, 2)).thenReturn(List.of(
+			new IsbnRow(1L, "8937460777"),
+			new IsbnRow(2L, "not-an-isbn")));
+		when(bookJdbcRepository.findNonIsbn13After(2L, 2)).thenReturn(List.of(
+			new IsbnRow(3L, "89-374-6088-2")));
+
+		// when
+		int updated = bookIsbnConstraintService.normalizeLegacyIsbns();
+
+		// then
+		assertThat(updated).isEqualTo(2);
+		verify(bookJdbcRepository).updateIsbn(1L, "9788937460777");
+		verify(bookJdbcRepository).updateIsbn(3L, "9788937460883");
+		verify(bookJdbcRepository, never()).updateIsbn(eq(2L), anyString());
+		verify(bookCacheService).evict(1L);
+		verify(bookCacheService).evictIsbns(List.of("8937460777", "9788937460777"));
+	}
+
+	@Test
+	@DisplayName("같은 ISBN-13의 행이 이미 있어 제약 위반이면 그 행만 건너뛴다")
+	void normalizeLegacyIsbns_duplicate_skipsRow() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.findNonIsbn13After(0L, 2)).thenReturn(List.of(
+			new IsbnRow(1L, "8937460777")));
+		when(bookJdbcRepository.updateIsbn(1L, "9788937460777"))
+			.thenThrow(new DuplicateKeyException("unique_isbn"));
+
+		// when
+		int updated = bookIsbnConstraintService.normalizeLegacyIsbns();
+
+		// then
+		assertThat(updated).isZero();
+		verifyNoInteractions(bookCacheService);
+	}
+
+	@Test
+	@DisplayName("MySQL이 아니면 ISBN을 바꾸지 않는다")
+	void normalizeLegacyIsbns_notMySql_skips() {
+		// given
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(false);
+
+		// when
+		int updated = bookIsbnConstraintService.normalizeLegacyIsbns();
+
+		// then
+		assertThat(updated).isZero();
+		verify(bookJdbcRepository, never()).findNonIsbn13After(anyLong(), anyInt());
+	}
+}
@@ -0,0 +1,216 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.repository.BookJdbcRepository.MetadataUpdate;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.service.BookCacheService;
+import com.example.seolab.service.BookMetadataEnrichmentService;
+import com.example.seolab.service.OwnedBookLookupService;
+import com.example.seolab.service.search.KakaoBookSearchProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookMetadataEnrichmentService 단위 테스트")
+class BookMetadataEnrichmentServiceTest {
+
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Mock
+	private UserBookRepository userBookRepository;
+
+	@Mock
+	private KakaoBookSearchProvider kakaoBookSearchProvider;
+
+	@Mock
+	private BookCacheService bookCacheService;
+
+	@Mock
+	private OwnedBookLookupService ownedBookLookupService;
+
+	private BookMetadataEnrichmentService enrichmentService;
+
+	@BeforeEach
+	void setUp() {
+		enrichmentService = new BookMetadataEnrichmentService(bookRepository, bookJdbcRepository,
+			userBookRepository, kakaoBookSearchProvider, bookCacheService, ownedBookLookupService, 1000);
+		ReflectionTestUtils.setField(enrichmentService, "enabled", true);
+		ReflectionTestUtils.setField(enrichmentService, "batchSize", 50);
+		ReflectionTestUtils.setField(enrichmentService, "recheckDays", 30L);
+		ReflectionTestUtils.setField(enrichmentService, "lookupTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(enrichmentService, "titleCandidates", 10);
+	}
+
+	@Test
+	@DisplayName("ISBN 없는 책은 제목 검색 결과 중 같은 책의 정보로 빈 필드를 채우고 캐시를 비운다")
+	@SuppressWarnings("unchecked")
+	void enrich_withoutIsbn_fillsMissingFieldsFromMatchingCandidate() {
+		// given
+		Book book = Book.builder()
+			.bookId(1L)
+			.title("테스트 책")
+			.authors(List.of("저자1"))
+			.publisher("출판사")
+			.thumbnail("https://example.com/existing.jpg")
+			.build();
+		BookDto otherEdition = BookDto.builder()
+			.title("테스트 책")
+			.authors(List.of("다른 저자"))
+			.publisher("출판사")
+			.isbn("9781111111113")
+			.build();
+		BookDto sameBook = BookDto.builder()
+			.title("테스트 책")
+			.authors(List.of("저자1"))
+			.publisher("출판사")
+			.isbn("0306406152 9780306406157")
+			.thumbnail("https://example.com/found.jpg")
+			.publishedDate(LocalDate.of(2024, 1, 1))
+			.build();
+
+		when(bookRepository.findMetadataEnrichmentCandidates(any(LocalDateTime.class), any(Pageable.class)))
+			.thenReturn(List.of(book));
+		when(kakaoBookSearchProvider.lookupByTitle(eq("테스트 책"), anyInt()))
+			.thenReturn(Mono.just(List.of(otherEdition, sameBook)));
+		when(bookRepository.findByNaturalIsbn("9780306406157")).thenReturn(Optional.empty());
+		when(userBookRepository.findUserIdsByBookIds(List.of(1L))).thenReturn(List.of(7L));
+
+		// when
+		enrichmentService.enrich();
+
+		// then
+		ArgumentCaptor<List<MetadataUpdate>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bookJdbcRepository).updateMetadata(captor.capture(), any(LocalDateTime.class));
+		assertThat(captor.getValue()).containsExactly(
+			new MetadataUpdate(1L, "9780306406157", null, LocalDate.of(2024, 1, 1)));
+		verify(bookCacheService).evict(1L);
+		verify(ownedBookLookupService).onIsbnChanged(List.of(7L));
+	}
+
+	@Test
+	@DisplayName("다른 책이 이미 쓰는 ISBN은 채우지 않고, 못 찾은 책도 확인 시각은 기록한다")
+	@SuppressWarnings("unchecked")
+	void enrich_withTakenIsbnAndMissingBook_recordsCheckOnly() {
+		// given
+		Book withTakenIsbn = Book.builder()
+			.bookId(1L).title("책1").authors(List.of("저자")).publisher("출판사").build();
+		Book notFound = Book.builder()
+			.bookId(2L).title("책2").authors(List.of("저자")).publisher("출판사").isbn("9782222222224").build();
+
+		when(bookRepository.findMetadataEnrichmentCandidates(any(LocalDateTime.class), any(Pageable.class)))
+			.thenReturn(List.of(withTakenIsbn, notFound));
+		when(kakaoBookSearchProvider.lookupByTitle(eq("책1"), anyInt()))
+			.thenReturn(Mono.just(List.of(BookDto.builder()
+				.title("책1").authors(List.of("저자")).publisher("출판사").isbn("9781111111113").build())));
+		when(bookRepository.findByNaturalIsbn("9781111111113"))
+			.thenReturn(Optional.of(Book.builder().bookId(99L).build()));
+		when(kakaoBookSearchProvider.lookupByIsbn("9782222222224")).thenReturn(Mono.empty());
+
+		// when
+		enrichmentService.enrich();
+
+		// then
+		ArgumentCaptor<List<MetadataUpdate>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bookJdbcRepository).updateMetadata(captor.capture(), any(LocalDateTime.class));
+		assertThat(captor.getValue()).containsExactly(
+			new MetadataUpdate(1L, null, null, null),
+			new MetadataUpdate(2L, null, null, null));
+		verifyNoInteractions(ownedBookLookupService, userBookRepository);
+	}
+
+	@Test
+	@DisplayName("5xx나 타임아웃처럼 일시적인 실패는 확인 시각을 기록하지 않고 다음 주기에 다시 조회한다")
+	@SuppressWarnings("unchecked")
+	void enrich_transientFailures_leavesRowsUnchecked() {
+		// given
+		Book serverError = Book.builder()
+			.bookId(1L).title("책1").authors(List.of("저자")).publisher("출판사").isbn("9781111111113").build();
+		Book timeout = Book.builder()
+			.bookId(2L).title("책2").authors(List.of("저자")).publisher("출판사").isbn("9782222222224").build();
+		Book badRequest = Book.builder()
+			.bookId(3L).title("책3").authors(List.of("저자")).publisher("출판사").isbn("9783333333335").build();
+
+		when(bookRepository.findMetadataEnrichmentCandidates(any(LocalDateTime.class), any(Pageable.class)))
+			.thenReturn(List.of(serverError, timeout, badRequest));
+		when(kakaoBookSearchProvider.lookupByIsbn("9781111111113")).thenReturn(Mono.error(
+			WebClientResponseException.create(HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", null, null, null)));
+		when(kakaoBookSearchProvider.lookupByIsbn("9782222222224")).thenReturn(Mono.never());
+		when(kakaoBookSearchProvider.lookupByIsbn("9783333333335")).thenReturn(Mono.error(
+			WebClientResponseException.create(HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null)));
+		ReflectionTestUtils.setField(enrichmentService, "lookupTimeoutMs", 50L);
+
+		// when
+		enrichmentService.enrich();
+
+		// then: 4xx는 다시 조회해도 같으므로 확인 시각만 기록
+		ArgumentCaptor<List<MetadataUpdate>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bookJdbcRepository).updateMetadata(captor.capture(), any(LocalDateTime.class));
+		assertThat(captor.getValue()).containsExactly(new MetadataUpdate(3L, null, null, null));
+	}
+
+	@Test
+	@DisplayName("ISBN 충돌로 ISBN 없이 다시 반영해도 먼저 ISBN이 들어갔을 수 있는 책의 사용자에게 알린다")
+	void enrich_duplicateIsbnRetry_stillNotifiesOwners() {
+		// given
+		Book first = Book.builder()
+			.bookId(1L).title("책1").authors(List.of("저자")).publisher("출판사").build();
+		Book second = Book.builder()
+			.bookId(2L).title("책2").authors(List.of("저자")).publisher("출판사").build();
+
+		when(bookRepository.findMetadataEnrichmentCandidates(any(LocalDateTime.class), any(Pageable.class)))
+			.thenReturn(List.of(first, second));
+		when(kakaoBookSearchProvider.lookupByTitle(eq("책1"), anyInt()))
+			.thenReturn(Mono.just(List.of(BookDto.builder()
+				.title("책1").authors(List.of("저자")).publisher("출판사").isbn("9781111111113").build())));
+		when(kakaoBookSearchProvider.lookupByTitle(eq("책2"), anyInt()))
+			.thenReturn(Mono.just(List.of(BookDto.builder()
+				.title("책2").authors(List.of("저자")).publisher("출판사").isbn("9782222222224").build())));
+		when(bookRepository.findByNaturalIsbn(anyString())).thenReturn(Optional.empty());
+		doThrow(new DuplicateKeyException("unique_isbn"))
+			.doNothing()
+			.when(bookJdbcRepository).updateMetadata(anyList(), any(LocalDateTime.class));
+		when(userBookRepository.findUserIdsByBookIds(List.of(1L, 2L))).thenReturn(List.of(7L));
+
+		// when
+		enrichmentService.enrich();
+
+		// then
+		verify(bookJdbcRepository).updateMetadata(
+			eq(List.of(new MetadataUpdate(1L, null, null, null), new MetadataUpdate(2L, null, null, null))),
+			any(LocalDateTime.class));
+		verify(bookCacheService).evict(1L);
+		verify(bookCacheService).evict(2L);
+		verify(ownedBookLookupService).onIsbnChanged(List.of(7L));
+	}
+}
@@ -0,0 +1,136 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.service.search.BookSearchAggregator;
+import com.example.seolab.service.search.BookSearchProvider;
+import com.example.seolab.service.search.LocalCatalogBookSearchProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchAggregator 단위 테스트")
+class BookSearchAggregatorTest {
+
+	@Mock
+	private BookRepository bookRepository;
+
+	@Test
+	@DisplayName("provider 결과를 우선순위 순서로 합치고 ISBN이 겹치는 책은 한 번만 넣는다")
+	void search_mergesAndDeduplicatesByIsbn() {
+		// given
+		BookSearchProvider kakao = provider("kakao", Mono.just(response(10, false,
+			book("책1", "8966262473 9788966262472"), book("책2", "9781111111113"))));
+		BookSearchProvider local = provider("local", Mono.just(response(2, true,
+			book("책1 (로컬)", "9788966262472"), book("책3", "9782222222224"))));
+		BookSearchAggregator aggregator = new BookSearchAggregator(List.of(kakao, local), 1000);
+
+		// when
+		BookSearchResponse result = aggregator.search("책", null, 1, 10).block();
+
+		// then
+		assertThat(result.getBooks()).extracting(BookDto::getTitle).containsExactly("책1", "책2", "책3");
+		assertThat(result.getTotalCount()).isEqualTo(10);
+		assertThat(result.isEnd()).isFalse();
+		assertThat(result.isPartial()).isFalse();
+	}
+
+	@Test
+	@DisplayName("마감 시간 안에 응답하지 못한 provider는 빼고 partial로 표시한다")
+	void search_withSlowProvider_returnsPartialResult() {
+		// given
+		BookSearchProvider kakao = provider("kakao", Mono.just(response(1, true, book("책1", "9781111111113"))));
+		BookSearchProvider slow = provider("slow", Mono.never());
+		BookSearchAggregator aggregator = new BookSearchAggregator(List.of(kakao, slow), 100);
+
+		// when
+		BookSearchResponse result = aggregator.search("책", null, 1, 10).block(Duration.ofSeconds(5));
+
+		// then
+		assertThat(result.getBooks()).extracting(BookDto::getTitle).containsExactly("책1");
+		assertThat(result.isPartial()).isTrue();
+	}
+
+	@Test
+	@DisplayName("카카오가 실패하고 로컬 결과가 비어 있으면 0건이 아니라 오류로 알린다")
+	void search_withFailedPrimaryAndEmptyLocal_throws() {
+		// given
+		BookSearchProvider kakao = provider("kakao", Mono.error(new IllegalStateException("503")));
+		BookSearchProvider local = provider("local", Mono.just(response(0, true)));
+		BookSearchAggregator aggregator = new BookSearchAggregator(List.of(kakao, local), 1000);
+
+		// when & then
+		assertThatThrownBy(() -> aggregator.search("책", null, 1, 10).block())
+			.hasMessageContaining("책 검색 중 오류");
+	}
+
+	@Test
+	@DisplayName("로컬 provider가 참여하지 않는 요청(2페이지 이후, 저자 검색)은 partial이 아니다")
+	void search_withNonParticipatingLocalProvider_isNotPartial() {
+		// given
+		LocalCatalogBookSearchProvider local = new LocalCatalogBookSearchProvider(bookRepository);
+		ReflectionTestUtils.setField(local, "enabled", true);
+		ReflectionTestUtils.setField(local, "timeoutMillis", 1000L);
+		BookSearchProvider kakao = provider("kakao", Mono.just(response(30, false, book("책1", "9781111111113"))));
+		BookSearchAggregator aggregator = new BookSearchAggregator(List.of(kakao, local), 1000);
+
+		// when
+		BookSearchResponse secondPage = aggregator.search("책", null, 2, 10).block();
+		BookSearchResponse byAuthor = aggregator.search("한강", "person", 1, 10).block();
+
+		// then
+		assertThat(secondPage.isPartial()).isFalse();
+		assertThat(byAuthor.isPartial()).isFalse();
+		assertThat(byAuthor.getBooks()).extracting(BookDto::getTitle).containsExactly("책1");
+		verifyNoInteractions(bookRepository);
+	}
+
+	private BookSearchProvider provider(String name, Mono<BookSearchResponse> result) {
+		return new BookSearchProvider() {
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public Duration getTimeout() {
+				return Duration.ofSeconds(5);
+			}
+
+			@Override
+			public Mono<BookSearchResponse> search(String query, String target, int page, int size) {
+				return result;
+			}
+		};
+	}
+
+	private BookSearchResponse response(int totalCount, boolean isEnd, BookDto... books) {
+		return BookSearchResponse.builder()
+			.books(List.of(books))
+			.totalCount(totalCount)
+			.isEnd(isEnd)
+			.build();
+	}
+
+	private BookDto book(String title, String isbn) {
+		return BookDto.builder().title(title).isbn(isbn).authors(List.of("저자")).build();
+	}
+}
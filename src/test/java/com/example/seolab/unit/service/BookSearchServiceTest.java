@@ -0,0 +1,95 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.service.BookSearchService;
+import com.example.seolab.service.OwnedBookLookupService;
+import com.example.seolab.service.SearchQueryStatsService;
+import com.example.seolab.service.SearchResultCache;
+import com.example.seolab.service.SpellingSuggestionService;
+import com.example.seolab.service.search.BookSearchAggregator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchService ETag 단위 테스트")
+class BookSearchServiceTest {
+
+	@Mock
+	private BookSearchAggregator bookSearchAggregator;
+
+	@Mock
+	private SearchQueryStatsService searchQueryStatsService;
+
+	@Mock
+	private SearchResultCache searchResultCache;
+
+	@Mock
+	private OwnedBookLookupService ownedBookLookupService;
+
+	@Mock
+	private SpellingSuggestionService spellingSuggestionService;
+
+	@InjectMocks
+	private BookSearchService bookSearchService;
+
+	@Test
+	@DisplayName("보유한 책이 없으면 캐시된 본문의 ETag를 그대로 사용한다")
+	void searchBooks_withoutOwnedBooks_keepsCachedEtag() {
+		// given
+		when(searchResultCache.get(eq("데미안"), isNull(), eq(1), eq(10)))
+			.thenReturn(Optional.of(cachedResponse()));
+
+		// when
+		BookSearchResponse response = bookSearchService.searchBooks(1L, "데미안", null, 1, 10);
+
+		// then
+		assertThat(response.getEtag()).isEqualTo("abc");
+	}
+
+	@Test
+	@DisplayName("보유한 책이 있으면 사용자별로 다른 ETag를 만들고 같은 보유 상태면 같은 ETag를 만든다")
+	void searchBooks_withOwnedBooks_personalizesEtag() {
+		// given
+		UUID userBookId = UUID.randomUUID();
+		when(searchResultCache.get(eq("데미안"), isNull(), eq(1), eq(10)))
+			.thenAnswer(invocation -> Optional.of(cachedResponse()));
+		doAnswer(invocation -> {
+			List<BookDto> books = invocation.getArgument(1);
+			books.get(0).setOwnedUserBookId(userBookId);
+			return null;
+		}).when(ownedBookLookupService).annotateOwnership(eq(1L), anyList());
+
+		// when
+		BookSearchResponse owner = bookSearchService.searchBooks(1L, "데미안", null, 1, 10);
+		BookSearchResponse ownerAgain = bookSearchService.searchBooks(1L, "데미안", null, 1, 10);
+		BookSearchResponse other = bookSearchService.searchBooks(2L, "데미안", null, 1, 10);
+
+		// then
+		assertThat(owner.getEtag()).startsWith("abc-").isEqualTo(ownerAgain.getEtag());
+		assertThat(other.getEtag()).isEqualTo("abc");
+	}
+
+	private BookSearchResponse cachedResponse() {
+		return BookSearchResponse.builder()
+			.books(List.of(BookDto.builder().title("데미안").isbn("9788937460777").build()))
+			.totalCount(1)
+			.isEnd(true)
+			.etag("abc")
+			.build();
+	}
+}
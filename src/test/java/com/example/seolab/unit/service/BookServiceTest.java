@@ -2,8 +2,11 @@ package com.example.seolab.unit.service;
 
 import com.example.seolab.dto.response.BookDto;
 import com.example.seolab.entity.Book;
+import com.example.seolab.event.BookCreatedEvent;
+import com.example.seolab.repository.BookJdbcRepository;
 import com.example.seolab.repository.BookRepository;
 import com.example.seolab.service.BookService;
+import com.example.seolab.util.BookFingerprint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +15,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +34,12 @@ class BookServiceTest {
 	@Mock
 	private BookRepository bookRepository;
 
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private BookService bookService;
 
@@ -40,7 +51,7 @@ class BookServiceTest {
 		bookDto = BookDto.builder()
 			.title("테스트 책")
 			.contents("테스트 내용")
-			.isbn("1234567890 9876543210")
+			.isbn("0306406152 9780306406157")
 			.publishedDate(LocalDate.of(2024, 1, 1))
 			.authors(List.of("저자1", "저자2"))
 			.publisher("출판사")
@@ -53,7 +64,7 @@ class BookServiceTest {
 			.title("테스트 책")
 			.authors(List.of("저자1", "저자2"))
 			.publisher("출판사")
-			.isbn("1234567890")
+			.isbn("9780306406157")
 			.contents("테스트 내용")
 			.thumbnail("https://example.com/image.jpg")
 			.publishedDate(LocalDate.of(2024, 1, 1))
@@ -65,7 +76,7 @@ class BookServiceTest {
 	@DisplayName("ISBN으로 기존 책을 찾으면 새로 생성하지 않고 반환")
 	void findOrCreateBook_withExistingIsbn_returnsExistingBook() {
 		// given
-		when(bookRepository.findByIsbn("1234567890"))
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
 			.thenReturn(Optional.of(existingBook));
 
 		// when
@@ -73,8 +84,9 @@ class BookServiceTest {
 
 		// then
 		assertThat(result).isEqualTo(existingBook);
-		verify(bookRepository).findByIsbn("1234567890");
+		verify(bookRepository).findByNaturalIsbn("9780306406157");
 		verify(bookRepository, never()).save(any(Book.class));
+		verifyNoInteractions(eventPublisher);
 	}
 
 	@Test
@@ -87,7 +99,7 @@ class BookServiceTest {
 			.publisher("출판사")
 			.build();
 
-		when(bookRepository.findByTitleAndAuthorAndPublisher("테스트 책", "저자1", "출판사"))
+		when(bookRepository.findFirstByFingerprint(BookFingerprint.of("테스트 책", "저자1", "출판사")))
 			.thenReturn(Optional.of(existingBook));
 
 		// when
@@ -95,7 +107,7 @@ class BookServiceTest {
 
 		// then
 		assertThat(result).isEqualTo(existingBook);
-		verify(bookRepository).findByTitleAndAuthorAndPublisher("테스트 책", "저자1", "출판사");
+		verify(bookRepository).findFirstByFingerprint(BookFingerprint.of("테스트 책", "저자1", "출판사"));
 		verify(bookRepository, never()).save(any(Book.class));
 	}
 
@@ -103,7 +115,7 @@ class BookServiceTest {
 	@DisplayName("기존 책이 없으면 새로운 책을 생성")
 	void findOrCreateBook_withNewBook_createsAndReturnsNewBook() {
 		// given
-		when(bookRepository.findByIsbn("1234567890"))
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
 			.thenReturn(Optional.empty());
 		when(bookRepository.save(any(Book.class)))
 			.thenReturn(existingBook);
@@ -121,14 +133,17 @@ class BookServiceTest {
 		assertThat(savedBook.getTitle()).isEqualTo("테스트 책");
 		assertThat(savedBook.getAuthors()).containsExactly("저자1", "저자2");
 		assertThat(savedBook.getPublisher()).isEqualTo("출판사");
-		assertThat(savedBook.getIsbn()).isEqualTo("1234567890"); // 첫 번째 ISBN만 저장
+		assertThat(savedBook.getIsbn()).isEqualTo("9780306406157"); // ISBN-13으로 저장
+
+		verify(bookJdbcRepository).insertAuthors(Map.of(1L, List.of("저자1", "저자2")));
+		verify(eventPublisher).publishEvent(new BookCreatedEvent(1L, "https://example.com/image.jpg"));
 	}
 
 	@Test
-	@DisplayName("ISBN에서 첫 번째 값만 추출하여 저장")
-	void findOrCreateBook_extractsFirstIsbn() {
+	@DisplayName("ISBN-10/13 쌍에서 ISBN-13 하나만 저장")
+	void findOrCreateBook_storesIsbn13() {
 		// given
-		when(bookRepository.findByIsbn("1234567890"))
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
 			.thenReturn(Optional.empty());
 		when(bookRepository.save(any(Book.class)))
 			.thenReturn(existingBook);
@@ -141,7 +156,7 @@ class BookServiceTest {
 		verify(bookRepository).save(bookCaptor.capture());
 
 		Book savedBook = bookCaptor.getValue();
-		assertThat(savedBook.getIsbn()).isEqualTo("1234567890");
+		assertThat(savedBook.getIsbn()).isEqualTo("9780306406157");
 		assertThat(savedBook.getIsbn()).doesNotContain(" ");
 	}
 
@@ -149,7 +164,7 @@ class BookServiceTest {
 	@DisplayName("ISBN이 있으면 제목+저자+출판사 조회를 하지 않음")
 	void findOrCreateBook_withIsbn_doesNotSearchByTitleAuthorPublisher() {
 		// given
-		when(bookRepository.findByIsbn("1234567890"))
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
 			.thenReturn(Optional.empty());
 		when(bookRepository.save(any(Book.class)))
 			.thenReturn(existingBook);
@@ -158,9 +173,8 @@ class BookServiceTest {
 		bookService.findOrCreateBook(bookDto);
 
 		// then
-		verify(bookRepository).findByIsbn("1234567890");
-		verify(bookRepository, never())
-			.findByTitleAndAuthorAndPublisher(anyString(), anyString(), anyString());
+		verify(bookRepository).findByNaturalIsbn("9780306406157");
+		verify(bookRepository, never()).findFirstByFingerprint(anyString());
 	}
 
 	@Test
@@ -174,7 +188,7 @@ class BookServiceTest {
 			.authors(null)
 			.build();
 
-		when(bookRepository.findByIsbn("1111111111"))
+		when(bookRepository.findByNaturalIsbn("9781111111113"))
 			.thenReturn(Optional.empty());
 		when(bookRepository.save(any(Book.class)))
 			.thenReturn(existingBook);
@@ -202,7 +216,7 @@ class BookServiceTest {
 			.translators(null)
 			.build();
 
-		when(bookRepository.findByIsbn("2222222222"))
+		when(bookRepository.findByNaturalIsbn("9782222222224"))
 			.thenReturn(Optional.empty());
 		when(bookRepository.save(any(Book.class)))
 			.thenReturn(existingBook);
@@ -217,4 +231,95 @@ class BookServiceTest {
 		Book savedBook = bookCaptor.getValue();
 		assertThat(savedBook.getTranslators()).isEmpty();
 	}
+
+	@Test
+	@DisplayName("ISBN-13으로 없으면 정규화 이전의 ISBN-10으로 저장된 책을 찾는다")
+	void findOrCreateBook_findsLegacyIsbn10Book() {
+		// given
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
+			.thenReturn(Optional.empty());
+		when(bookRepository.findFirstByIsbnIn(List.of("0306406152")))
+			.thenReturn(Optional.of(existingBook));
+
+		// when
+		Book result = bookService.findOrCreateBook(bookDto);
+
+		// then
+		assertThat(result).isEqualTo(existingBook);
+		verify(bookRepository, never()).save(any(Book.class));
+	}
+
+	@Test
+	@DisplayName("upsert를 지원하면 insert-or-get 결과 ID로 책을 조회한다")
+	void findOrCreateBook_withUpsert_returnsUpsertedBook() {
+		// given
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
+			.thenReturn(Optional.empty());
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.upsert(any(Book.class))).thenReturn(1L);
+		when(bookRepository.findByIdForShare(1L)).thenReturn(Optional.of(existingBook));
+
+		// when
+		Book result = bookService.findOrCreateBook(bookDto);
+
+		// then
+		assertThat(result).isEqualTo(existingBook);
+
+		ArgumentCaptor<Book> bookCaptor = ArgumentCaptor.forClass(Book.class);
+		verify(bookJdbcRepository).upsert(bookCaptor.capture());
+		assertThat(bookCaptor.getValue().getIsbn()).isEqualTo("9780306406157");
+		verify(bookRepository, never()).save(any(Book.class));
+	}
+
+	@Test
+	@DisplayName("upsert가 unique_book으로 ISBN이 다른 책을 돌려주면 ISBN으로 다시 찾는다")
+	void findOrCreateBook_withUpsert_differentIsbn_fallsBackToIsbnLookup() {
+		// given
+		Book otherEdition = Book.builder()
+			.bookId(2L)
+			.title("테스트 책")
+			.authors(List.of("저자1", "저자2"))
+			.publisher("출판사")
+			.isbn("9788937460777")
+			.build();
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
+			.thenReturn(Optional.empty());
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.upsert(any(Book.class))).thenReturn(2L);
+		when(bookRepository.findByIdForShare(2L)).thenReturn(Optional.of(otherEdition));
+		when(bookRepository.findByIsbnInForShare(List.of("9780306406157", "0306406152")))
+			.thenReturn(List.of(existingBook));
+
+		// when
+		Book result = bookService.findOrCreateBook(bookDto);
+
+		// then
+		assertThat(result).isEqualTo(existingBook);
+	}
+
+	@Test
+	@DisplayName("정규화 이전 ISBN의 책이 있어 upsert가 넣지 않았으면 그 책을 찾아 반환한다")
+	void findOrCreateBook_withUpsert_skippedByLegacyIsbn_returnsLegacyBook() {
+		// given
+		Book legacyBook = Book.builder()
+			.bookId(3L)
+			.title("테스트 책")
+			.authors(List.of("저자1", "저자2"))
+			.publisher("출판사")
+			.isbn("0306406152")
+			.build();
+		when(bookRepository.findByNaturalIsbn("9780306406157"))
+			.thenReturn(Optional.empty());
+		when(bookJdbcRepository.supportsUpsert()).thenReturn(true);
+		when(bookJdbcRepository.upsert(any(Book.class))).thenReturn(99L);
+		when(bookRepository.findByIdForShare(99L)).thenReturn(Optional.empty());
+		when(bookRepository.findByIsbnInForShare(List.of("9780306406157", "0306406152")))
+			.thenReturn(List.of(legacyBook));
+
+		// when
+		Book result = bookService.findOrCreateBook(bookDto);
+
+		// then
+		assertThat(result).isEqualTo(legacyBook);
+	}
 }
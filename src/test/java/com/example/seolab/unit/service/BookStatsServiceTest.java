@@ -0,0 +1,179 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.repository.QuoteRepository;
+import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.repository.projection.BookQuoteCount;
+import com.example.seolab.repository.projection.BookReaderCount;
+import com.example.seolab.service.BookStatsService;
+import com.example.seolab.service.BookStatsService.BookStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookStatsService 단위 테스트")
+@SuppressWarnings("unchecked")
+class BookStatsServiceTest {
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private UserBookRepository userBookRepository;
+
+	@Mock
+	private QuoteRepository quoteRepository;
+
+	@InjectMocks
+	private BookStatsService bookStatsService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bookStatsService, "ttlDays", 7L);
+		ReflectionTestUtils.setField(bookStatsService, "reconcileBatchSize", 10);
+	}
+
+	@Test
+	@DisplayName("책을 추가하면 해시가 있을 때만 증가시키는 스크립트로 독자 수를 올린다")
+	void onBookAdded_runsIncrementIfExistsScript() {
+		// when
+		bookStatsService.onBookAdded(1L);
+
+		// then
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("book_stats:1")), eq("readers"), eq("1"));
+	}
+
+	@Test
+	@DisplayName("책을 삭제하면 독자 수, 완독 수, 문장 수를 한 번에 줄인다")
+	void onBookRemoved_decrementsAllFields() {
+		// when
+		bookStatsService.onBookRemoved(1L, true, 3);
+
+		// then
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("book_stats:1")),
+			eq("readers"), eq("-1"), eq("finished"), eq("-1"), eq("quotes"), eq("-3"));
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서는 커밋된 뒤에 증감한다")
+	void onQuoteAdded_inTransaction_runsAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			bookStatsService.onQuoteAdded(1L);
+
+			// then
+			verifyNoInteractions(redisTemplate);
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("book_stats:1")), eq("quotes"), eq("1"));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("캐시에 없으면 MySQL 집계로 해시를 채우고 그 값을 반환한다")
+	void loadAndStore_miss_seedsFromDatabase() {
+		// given
+		stubCounts(1L, 3L, 1L, 2L);
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of("book_stats:1")),
+			eq("3"), eq("1"), eq("2"), eq("604800"))).thenReturn(List.of());
+
+		// when
+		BookStats stats = bookStatsService.loadAndStore(1L);
+
+		// then
+		assertThat(stats).isEqualTo(new BookStats(3, 1, 2));
+	}
+
+	@Test
+	@DisplayName("집계하는 사이 다른 요청이 해시를 채웠다면 덮어쓰지 않고 저장된 값을 사용한다")
+	void loadAndStore_seededConcurrently_keepsExistingHash() {
+		// given
+		stubCounts(1L, 3L, 1L, 2L);
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of("book_stats:1")),
+			eq("3"), eq("1"), eq("2"), eq("604800")))
+			.thenReturn(List.of("readers", "4", "finished", "1", "quotes", "5"));
+
+		// when
+		BookStats stats = bookStatsService.loadAndStore(1L);
+
+		// then
+		assertThat(stats).isEqualTo(new BookStats(4, 1, 5));
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시에도 MySQL 집계 값을 반환한다")
+	void loadAndStore_redisFailure_returnsCountedStats() {
+		// given
+		stubCounts(1L, 3L, 1L, 2L);
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of("book_stats:1")),
+			eq("3"), eq("1"), eq("2"), eq("604800"))).thenThrow(new IllegalStateException("down"));
+
+		// when
+		BookStats stats = bookStatsService.loadAndStore(1L);
+
+		// then
+		assertThat(stats).isEqualTo(new BookStats(3, 1, 2));
+	}
+
+	@Test
+	@DisplayName("보정은 SCAN으로 찾은 통계 키의 책만 다시 집계해 파이프라인으로 저장한다")
+	void reconcile_scansKeysAndStoresPipelined() {
+		// given
+		Cursor<String> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, true, true, false);
+		when(cursor.next()).thenReturn("book_stats:1", "book_stats:invalid", "book_stats:2");
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(userBookRepository.countReadersByBookIds(List.of(1L, 2L))).thenReturn(List.of());
+		when(quoteRepository.countQuotesByBookIds(List.of(1L, 2L))).thenReturn(List.of());
+
+		// when
+		bookStatsService.reconcile();
+
+		// then
+		verify(redisTemplate).executePipelined(any(SessionCallback.class));
+		verify(cursor).close();
+	}
+
+	@Test
+	@DisplayName("HGETALL 결과가 비어 있으면 null, 음수나 잘못된 값은 0으로 읽는다")
+	void fromHash_parsesValues() {
+		assertThat(bookStatsService.fromHash(Map.of())).isNull();
+		assertThat(bookStatsService.fromHash(Map.<Object, Object>of("readers", "2", "finished", "-1", "quotes", "x")))
+			.isEqualTo(new BookStats(2, 0, 0));
+	}
+
+	private void stubCounts(Long bookId, long readers, long finished, long quotes) {
+		BookReaderCount readerCount = mock(BookReaderCount.class);
+		when(readerCount.getBookId()).thenReturn(bookId);
+		when(readerCount.getReaders()).thenReturn(readers);
+		when(readerCount.getFinished()).thenReturn(finished);
+		BookQuoteCount quoteCount = mock(BookQuoteCount.class);
+		when(quoteCount.getBookId()).thenReturn(bookId);
+		when(quoteCount.getQuotes()).thenReturn(quotes);
+		when(userBookRepository.countReadersByBookIds(List.of(bookId))).thenReturn(List.of(readerCount));
+		when(quoteRepository.countQuotesByBookIds(List.of(bookId))).thenReturn(List.of(quoteCount));
+	}
+}
@@ -0,0 +1,154 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.CatalogBookResponse;
+import com.example.seolab.entity.Book;
+import com.example.seolab.repository.BookAuthorRepository;
+import com.example.seolab.repository.BookRepository;
+import com.example.seolab.service.BookStatsService;
+import com.example.seolab.service.BookStatsService.BookStats;
+import com.example.seolab.service.CatalogBookService;
+import com.example.seolab.service.ThumbnailService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogBookService 단위 테스트")
+@SuppressWarnings("unchecked")
+class CatalogBookServiceTest {
+
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private BookAuthorRepository bookAuthorRepository;
+
+	@Mock
+	private BookStatsService bookStatsService;
+
+	@Mock
+	private ThumbnailService thumbnailService;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, Object> valueOperations;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private CatalogBookService catalogBookService;
+
+	@BeforeEach
+	void setUp() {
+		catalogBookService = new CatalogBookService(bookRepository, bookAuthorRepository, bookStatsService,
+			thumbnailService, redisTemplate, objectMapper);
+		ReflectionTestUtils.setField(catalogBookService, "detailTtlSeconds", 600L);
+		ReflectionTestUtils.setField(catalogBookService, "maxAuthorPageSize", 100);
+	}
+
+	@Test
+	@DisplayName("메타데이터와 통계가 모두 캐시에 있으면 한 번의 파이프라인으로 읽고 DB는 조회하지 않는다")
+	void getBook_cacheHit_readsPipelinedWithoutDatabase() throws Exception {
+		// given
+		String detail = objectMapper.writeValueAsString(CatalogBookResponse.builder()
+			.bookId(1L)
+			.title("데미안")
+			.authors(List.of("헤르만 헤세"))
+			.build());
+		Map<Object, Object> hash = Map.of("readers", "3", "finished", "1", "quotes", "5");
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(Arrays.asList(detail, hash));
+		when(bookStatsService.fromHash(hash)).thenReturn(new BookStats(3, 1, 5));
+
+		// when
+		CatalogBookResponse response = catalogBookService.getBook(1L).orElseThrow();
+
+		// then
+		assertThat(response.getTitle()).isEqualTo("데미안");
+		assertThat(response.getReaderCount()).isEqualTo(3);
+		assertThat(response.getFinishedCount()).isEqualTo(1);
+		assertThat(response.getQuoteCount()).isEqualTo(5);
+		verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+		verifyNoInteractions(bookRepository);
+		verify(bookStatsService, never()).loadAndStore(any());
+	}
+
+	@Test
+	@DisplayName("캐시에 없으면 DB에서 읽어 메타데이터를 캐시에 쓰고 통계는 집계로 채운다")
+	void getBook_cacheMiss_loadsFromDatabaseAndSeedsStats() {
+		// given
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(Arrays.asList(null, Map.of()));
+		when(bookRepository.findById(1L)).thenReturn(Optional.of(Book.builder()
+			.bookId(1L)
+			.title("데미안")
+			.authors(List.of("헤르만 헤세"))
+			.publisher("민음사")
+			.build()));
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(bookStatsService.loadAndStore(1L)).thenReturn(new BookStats(2, 0, 4));
+
+		// when
+		CatalogBookResponse response = catalogBookService.getBook(1L).orElseThrow();
+
+		// then
+		assertThat(response.getTitle()).isEqualTo("데미안");
+		assertThat(response.getReaderCount()).isEqualTo(2);
+		assertThat(response.getQuoteCount()).isEqualTo(4);
+		verify(valueOperations).set(eq("book_detail:1"), anyString(), eq(Duration.ofSeconds(600)));
+		verifyNoInteractions(thumbnailService);
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 DB와 MySQL 집계로 응답한다")
+	void getBook_redisFailure_fallsBackToDatabase() {
+		// given
+		when(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.thenThrow(new RedisConnectionFailureException("down"));
+		when(bookRepository.findById(1L)).thenReturn(Optional.of(Book.builder()
+			.bookId(1L)
+			.title("데미안")
+			.build()));
+		when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+		when(bookStatsService.loadAndStore(1L)).thenReturn(new BookStats(1, 1, 0));
+
+		// when
+		Optional<CatalogBookResponse> response = catalogBookService.getBook(1L);
+
+		// then
+		assertThat(response).isPresent();
+		assertThat(response.get().getFinishedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("없는 책이면 빈 결과를 반환하고 통계를 만들지 않는다")
+	void getBook_notFound_returnsEmpty() {
+		// given
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(Arrays.asList(null, Map.of()));
+		when(bookRepository.findById(1L)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThat(catalogBookService.getBook(1L)).isEmpty();
+		verify(bookStatsService, never()).loadAndStore(any());
+	}
+}
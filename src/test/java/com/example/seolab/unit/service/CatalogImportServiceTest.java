@@ -0,0 +1,207 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.CatalogImportStatusResponse;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.service.CatalogImportService;
+import com.example.seolab.service.search.KakaoBookSearchProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogImportService 단위 테스트")
+class CatalogImportServiceTest {
+
+	private static final String ISBN_1 = "9788937460777";
+	private static final String ISBN_2 = "9788937460784";
+	private static final String ISBN_3 = "9788937460883";
+
+	@Mock
+	private KakaoBookSearchProvider kakaoBookSearchProvider;
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	@TempDir
+	private Path importDirectory;
+
+	private CatalogImportService catalogImportService;
+
+	// insertIfAbsent에 넘긴 배치는 호출 뒤 비워지므로 호출 시점에 복사해 둔다
+	private final List<String> insertedIsbns = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		catalogImportService = new CatalogImportService(kakaoBookSearchProvider, bookJdbcRepository, 1000);
+		ReflectionTestUtils.setField(catalogImportService, "importDirectory", importDirectory.toString());
+		ReflectionTestUtils.setField(catalogImportService, "batchSize", 2);
+		ReflectionTestUtils.setField(catalogImportService, "lookupTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(catalogImportService, "maxAttempts", 3);
+		ReflectionTestUtils.setField(catalogImportService, "quotaBackoffMs", 10L);
+
+		lenient().doAnswer(invocation -> {
+			List<BookDto> batch = invocation.getArgument(0);
+			batch.forEach(book -> insertedIsbns.add(book.getIsbn()));
+			return batch.size();
+		}).when(bookJdbcRepository).insertIfAbsent(anyList());
+	}
+
+	@Test
+	@DisplayName("CSV/TSV 첫 열을 ISBN으로 읽고 주석, 빈 줄, 잘못된 ISBN은 건너뛴다")
+	void start_parsesIsbnColumn() throws Exception {
+		// given
+		writeFile("isbns.csv",
+			"# 주석",
+			"",
+			ISBN_1 + ",데미안",
+			" " + ISBN_2 + "\t헤르만 헤세",
+			"89-374-6088-2",
+			"123");
+		when(kakaoBookSearchProvider.lookupByIsbn(anyString()))
+			.thenAnswer(invocation -> Mono.just(book(invocation.getArgument(0))));
+
+		// when
+		CatalogImportStatusResponse status = runToCompletion("isbns.csv");
+
+		// then: ISBN-10도 ISBN-13으로 정규화해서 조회
+		verify(kakaoBookSearchProvider).lookupByIsbn(ISBN_1);
+		verify(kakaoBookSearchProvider).lookupByIsbn(ISBN_2);
+		verify(kakaoBookSearchProvider).lookupByIsbn(ISBN_3);
+		verifyNoMoreInteractions(kakaoBookSearchProvider);
+		assertThat(insertedIsbns).containsExactly(ISBN_1, ISBN_2, ISBN_3);
+		assertThat(status.getResolved()).isEqualTo(3);
+		assertThat(status.getCurrentLine()).isEqualTo(6);
+		assertThat(status.getError()).isNull();
+		assertThat(Files.exists(importDirectory.resolve("isbns.csv.checkpoint"))).isFalse();
+	}
+
+	@Test
+	@DisplayName("체크포인트가 있으면 기록된 줄 다음부터 이어서 가져오고 집계를 이어받는다")
+	void start_resumesFromCheckpoint() throws Exception {
+		// given
+		writeFile("isbns.csv", ISBN_1, ISBN_2, ISBN_3);
+		Files.writeString(importDirectory.resolve("isbns.csv.checkpoint"),
+			"line=2\nresolved=2\nnotFound=0\nfailed=0\n", StandardCharsets.UTF_8);
+		when(kakaoBookSearchProvider.lookupByIsbn(ISBN_3)).thenReturn(Mono.just(book(ISBN_3)));
+
+		// when
+		CatalogImportStatusResponse status = runToCompletion("isbns.csv");
+
+		// then
+		verify(kakaoBookSearchProvider, never()).lookupByIsbn(ISBN_1);
+		verify(kakaoBookSearchProvider, never()).lookupByIsbn(ISBN_2);
+		assertThat(insertedIsbns).containsExactly(ISBN_3);
+		assertThat(status.getResumedFromLine()).isEqualTo(2);
+		assertThat(status.getResolved()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("카카오에서 찾지 못한 ISBN은 notFound로 센다")
+	void start_notFound_countsNotFound() throws Exception {
+		// given
+		writeFile("isbns.csv", ISBN_1);
+		when(kakaoBookSearchProvider.lookupByIsbn(ISBN_1)).thenReturn(Mono.empty());
+
+		// when
+		CatalogImportStatusResponse status = runToCompletion("isbns.csv");
+
+		// then
+		assertThat(status.getNotFound()).isEqualTo(1);
+		assertThat(status.getResolved()).isZero();
+		verify(bookJdbcRepository, never()).insertIfAbsent(anyList());
+	}
+
+	@Test
+	@DisplayName("쿼터 초과(429)는 실패로 세지 않고 잠시 멈췄다가 같은 ISBN을 다시 조회한다")
+	void start_tooManyRequests_pausesAndRetries() throws Exception {
+		// given
+		writeFile("isbns.csv", ISBN_1);
+		WebClientResponseException tooManyRequests = WebClientResponseException.create(
+			HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null);
+		when(kakaoBookSearchProvider.lookupByIsbn(ISBN_1))
+			.thenReturn(Mono.error(tooManyRequests))
+			.thenReturn(Mono.error(tooManyRequests))
+			.thenReturn(Mono.error(tooManyRequests))
+			.thenReturn(Mono.just(book(ISBN_1)));
+
+		// when
+		CatalogImportStatusResponse status = runToCompletion("isbns.csv");
+
+		// then: maxAttempts(3)보다 많이 재시도해도 실패로 세지 않는다
+		verify(kakaoBookSearchProvider, times(4)).lookupByIsbn(ISBN_1);
+		assertThat(status.getFailed()).isZero();
+		assertThat(insertedIsbns).containsExactly(ISBN_1);
+	}
+
+	@Test
+	@DisplayName("다른 오류는 maxAttempts번까지만 시도하고 실패로 센 뒤 다음 줄로 넘어간다")
+	void start_repeatedErrors_stopsAtMaxAttempts() throws Exception {
+		// given
+		writeFile("isbns.csv", ISBN_1, ISBN_2);
+		when(kakaoBookSearchProvider.lookupByIsbn(ISBN_1))
+			.thenReturn(Mono.error(new IllegalStateException("timeout")));
+		when(kakaoBookSearchProvider.lookupByIsbn(ISBN_2)).thenReturn(Mono.just(book(ISBN_2)));
+
+		// when
+		CatalogImportStatusResponse status = runToCompletion("isbns.csv");
+
+		// then
+		verify(kakaoBookSearchProvider, times(3)).lookupByIsbn(ISBN_1);
+		assertThat(status.getFailed()).isEqualTo(1);
+		assertThat(insertedIsbns).containsExactly(ISBN_2);
+	}
+
+	@Test
+	@DisplayName("가져오기 디렉터리 밖의 파일은 지정할 수 없다")
+	void start_pathTraversal_throwsException() {
+		assertThatThrownBy(() -> catalogImportService.start("../outside.csv"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("잘못된 파일 이름입니다.");
+	}
+
+	private CatalogImportStatusResponse runToCompletion(String fileName) throws InterruptedException {
+		catalogImportService.start(fileName);
+		long deadline = System.currentTimeMillis() + 5_000;
+		CatalogImportStatusResponse status = catalogImportService.getStatus().orElseThrow();
+		while (status.isRunning() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+			status = catalogImportService.getStatus().orElseThrow();
+		}
+		assertThat(status.isRunning()).isFalse();
+		return status;
+	}
+
+	private void writeFile(String fileName, String... lines) throws IOException {
+		Files.write(importDirectory.resolve(fileName), List.of(lines), StandardCharsets.UTF_8);
+	}
+
+	private BookDto book(String isbn) {
+		return BookDto.builder()
+			.title("책 " + isbn)
+			.authors(List.of("저자"))
+			.publisher("출판사")
+			.build();
+	}
+}
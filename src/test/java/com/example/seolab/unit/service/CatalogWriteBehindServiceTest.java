@@ -0,0 +1,148 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.repository.BookJdbcRepository;
+import com.example.seolab.service.CatalogWriteBehindService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogWriteBehindService 단위 테스트")
+class CatalogWriteBehindServiceTest {
+
+	@Mock
+	private BookJdbcRepository bookJdbcRepository;
+
+	private CatalogWriteBehindService catalogWriteBehindService;
+
+	@BeforeEach
+	void setUp() {
+		catalogWriteBehindService = createService(3, 2);
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 나머지 도서는 블로킹 없이 버린다")
+	void enqueue_queueFull_dropsRemaining() {
+		// given
+		List<BookDto> books = List.of(
+			book("9788937460777", "데미안"),
+			book("9788937460784", "이방인"),
+			book("9788937460883", "변신"),
+			book("9788937460890", "수레바퀴 아래서"));
+
+		// when
+		catalogWriteBehindService.enqueue(books);
+
+		// then
+		assertThat(catalogWriteBehindService.pendingCount()).isEqualTo(3);
+		verifyNoInteractions(bookJdbcRepository);
+	}
+
+	@Test
+	@DisplayName("ISBN이나 제목이 없는 도서는 건너뛰고 ISBN은 ISBN-13으로 정규화한다")
+	@SuppressWarnings("unchecked")
+	void enqueue_skipsIncompleteAndNormalizesIsbn() {
+		// given
+		List<BookDto> books = List.of(
+			book(null, "ISBN 없음"),
+			book("9788937460777", " "),
+			book("89-374-6088-2 9788937460883", "변신"));
+
+		// when
+		catalogWriteBehindService.enqueue(books);
+		catalogWriteBehindService.flush();
+
+		// then
+		ArgumentCaptor<List<BookDto>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bookJdbcRepository).insertIfAbsent(captor.capture());
+		assertThat(captor.getValue())
+			.extracting(BookDto::getIsbn)
+			.containsExactly("9788937460883");
+	}
+
+	@Test
+	@DisplayName("flush는 배치 크기만큼 나누어 배치당 한 번만 insertIfAbsent를 호출하고 배치 내 중복 ISBN을 제거한다")
+	@SuppressWarnings("unchecked")
+	void flush_batchesAndDedupesByIsbn() {
+		// given
+		catalogWriteBehindService = createService(10, 2);
+		catalogWriteBehindService.enqueue(List.of(
+			book("9788937460777", "데미안"),
+			book("9788937460777", "데미안 (개정판)"),
+			book("9788937460784", "이방인")));
+		when(bookJdbcRepository.insertIfAbsent(anyList())).thenReturn(1);
+
+		// when
+		catalogWriteBehindService.flush();
+
+		// then
+		ArgumentCaptor<List<BookDto>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bookJdbcRepository, times(2)).insertIfAbsent(captor.capture());
+		List<List<BookDto>> batches = captor.getAllValues();
+		assertThat(batches.get(0)).extracting(BookDto::getTitle).containsExactly("데미안");
+		assertThat(batches.get(1)).extracting(BookDto::getIsbn).containsExactly("9788937460784");
+		assertThat(catalogWriteBehindService.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("한 배치의 저장이 실패해도 다음 배치는 계속 처리한다")
+	void flush_batchFails_continuesWithNextBatch() {
+		// given
+		catalogWriteBehindService = createService(10, 1);
+		catalogWriteBehindService.enqueue(List.of(
+			book("9788937460777", "데미안"),
+			book("9788937460784", "이방인")));
+		when(bookJdbcRepository.insertIfAbsent(anyList()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(1);
+
+		// when
+		catalogWriteBehindService.flush();
+
+		// then
+		verify(bookJdbcRepository, times(2)).insertIfAbsent(anyList());
+		assertThat(catalogWriteBehindService.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("비활성화되면 큐에 넣지 않는다")
+	void enqueue_disabled_ignores() {
+		// given
+		ReflectionTestUtils.setField(catalogWriteBehindService, "enabled", false);
+
+		// when
+		catalogWriteBehindService.enqueue(List.of(book("9788937460777", "데미안")));
+		catalogWriteBehindService.flush();
+
+		// then
+		assertThat(catalogWriteBehindService.pendingCount()).isZero();
+		verifyNoInteractions(bookJdbcRepository);
+	}
+
+	private CatalogWriteBehindService createService(int queueCapacity, int batchSize) {
+		CatalogWriteBehindService service = new CatalogWriteBehindService(bookJdbcRepository, queueCapacity);
+		ReflectionTestUtils.setField(service, "enabled", true);
+		ReflectionTestUtils.setField(service, "batchSize", batchSize);
+		return service;
+	}
+
+	private BookDto book(String isbn, String title) {
+		return BookDto.builder()
+			.isbn(isbn)
+			.title(title)
+			.authors(List.of("작가"))
+			.build();
+	}
+}
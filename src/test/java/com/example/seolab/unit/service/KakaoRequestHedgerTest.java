@@ -0,0 +1,74 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.service.KakaoRequestHedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KakaoRequestHedger 단위 테스트")
+class KakaoRequestHedgerTest {
+
+	// 샘플 수 조건 없이 매 요청마다 hedge 예산이 생기는 설정, hedge 지연은 50ms
+	private final KakaoRequestHedger hedger = new KakaoRequestHedger(true, 0.9, 1.0, 50, 0);
+
+	@Test
+	@DisplayName("첫 요청이 느리면 hedge 요청의 응답을 사용한다")
+	void execute_slowPrimary_usesHedgedResponse() {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		String result = hedger.execute(() -> calls.incrementAndGet() == 1
+				? Mono.delay(Duration.ofSeconds(2)).thenReturn("primary")
+				: Mono.just("hedged"))
+			.block(Duration.ofSeconds(1));
+
+		// then
+		assertThat(result).isEqualTo("hedged");
+		assertThat(calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("첫 요청이 빨리 실패하면 hedge를 보내지 않고 원래 오류를 전달한다")
+	void execute_primaryFailsFast_doesNotHedge() throws InterruptedException {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+		WebClientResponseException tooManyRequests = WebClientResponseException.create(
+			HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null);
+
+		// when & then
+		assertThatThrownBy(() -> hedger.execute(() -> {
+				calls.incrementAndGet();
+				return Mono.<String>error(tooManyRequests);
+			}).block(Duration.ofSeconds(1)))
+			.isSameAs(tooManyRequests);
+
+		Thread.sleep(150);
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("두 요청이 모두 실패하면 첫 요청의 오류를 전달한다")
+	void execute_bothFail_propagatesPrimaryError() {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+		WebClientResponseException serverError = WebClientResponseException.create(
+			HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", null, null, null);
+
+		// when & then
+		assertThatThrownBy(() -> hedger.execute(() -> calls.incrementAndGet() == 1
+				? Mono.delay(Duration.ofMillis(200)).then(Mono.<String>error(serverError))
+				: Mono.<String>error(new IllegalStateException("hedge failed")))
+			.block(Duration.ofSeconds(1)))
+			.isSameAs(serverError);
+		assertThat(calls.get()).isEqualTo(2);
+	}
+}
@@ -10,6 +10,7 @@ import com.example.seolab.entity.UserBook;
 import com.example.seolab.exception.AccessDeniedException;
 import com.example.seolab.repository.QuoteRepository;
 import com.example.seolab.repository.UserBookRepository;
+import com.example.seolab.service.BookStatsService;
 import com.example.seolab.service.QuoteService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +40,9 @@ class QuoteServiceTest {
 	@Mock
 	private UserBookRepository userBookRepository;
 
+	@Mock
+	private BookStatsService bookStatsService;
+
 	@InjectMocks
 	private QuoteService quoteService;
 
@@ -110,6 +114,7 @@ class QuoteServiceTest {
 
 		// UserBook의 활동 시간이 갱신되었는지 확인
 		verify(userBookRepository).save(testUserBook);
+		verify(bookStatsService).onQuoteAdded(1L);
 	}
 
 	@Test
@@ -0,0 +1,105 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.TopQueryResponse;
+import com.example.seolab.service.BookSearchService;
+import com.example.seolab.service.SearchCacheWarmupService;
+import com.example.seolab.service.SearchQueryStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchCacheWarmupService 단위 테스트")
+class SearchCacheWarmupServiceTest {
+
+	private static final String TOP_QUERIES_KEY = "search:top_queries";
+
+	@Mock
+	private BookSearchService bookSearchService;
+
+	@Mock
+	private SearchQueryStatsService searchQueryStatsService;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private ZSetOperations<String, Object> zSetOperations;
+
+	private SearchCacheWarmupService searchCacheWarmupService;
+
+	@BeforeEach
+	void setUp() {
+		searchCacheWarmupService = new SearchCacheWarmupService(
+			bookSearchService, searchQueryStatsService, redisTemplate, 1000);
+		ReflectionTestUtils.setField(searchCacheWarmupService, "enabled", true);
+		ReflectionTestUtils.setField(searchCacheWarmupService, "queryCount", 2);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+	}
+
+	@Test
+	@DisplayName("스냅샷은 임시 키에 기록한 뒤 RENAME으로 교체하고 기존 키를 지우지 않는다")
+	@SuppressWarnings("unchecked")
+	void warmUp_savesSnapshotThroughRename() {
+		// given
+		when(searchQueryStatsService.getTopQueries(2)).thenReturn(List.of(
+			TopQueryResponse.builder().query("데미안").estimatedCount(10).build(),
+			TopQueryResponse.builder().query("어린 왕자").estimatedCount(5).build()));
+		when(zSetOperations.reverseRange(TOP_QUERIES_KEY, 0, 1)).thenReturn(Set.of("데미안"));
+
+		// when
+		searchCacheWarmupService.warmUp();
+
+		// then
+		ArgumentCaptor<String> tempKey = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Set<ZSetOperations.TypedTuple<Object>>> tuples = ArgumentCaptor.forClass(Set.class);
+		InOrder inOrder = inOrder(zSetOperations, redisTemplate);
+		inOrder.verify(zSetOperations).add(tempKey.capture(), tuples.capture());
+		inOrder.verify(redisTemplate).rename(tempKey.getValue(), TOP_QUERIES_KEY);
+
+		assertThat(tempKey.getValue()).startsWith(TOP_QUERIES_KEY + ":tmp:");
+		assertThat(tuples.getValue())
+			.extracting(ZSetOperations.TypedTuple::getValue)
+			.containsExactlyInAnyOrder("데미안", "어린 왕자");
+		verify(redisTemplate, never()).delete(TOP_QUERIES_KEY);
+		verify(bookSearchService, times(2)).warmUpCache(anyString());
+	}
+
+	@Test
+	@DisplayName("RENAME이 실패하면 임시 키를 정리하고 기존 스냅샷은 그대로 둔다")
+	@SuppressWarnings("unchecked")
+	void warmUp_renameFails_deletesTempKey() {
+		// given
+		when(searchQueryStatsService.getTopQueries(2)).thenReturn(List.of(
+			TopQueryResponse.builder().query("데미안").estimatedCount(10).build()));
+		doThrow(new IllegalStateException("redis down")).when(redisTemplate).rename(anyString(), eq(TOP_QUERIES_KEY));
+		when(zSetOperations.reverseRange(eq(TOP_QUERIES_KEY), anyLong(), anyLong())).thenReturn(Set.of());
+
+		// when
+		searchCacheWarmupService.warmUp();
+
+		// then
+		ArgumentCaptor<String> tempKey = ArgumentCaptor.forClass(String.class);
+		verify(zSetOperations).add(tempKey.capture(), any(Set.class));
+		verify(redisTemplate).delete(tempKey.getValue());
+		verify(redisTemplate, never()).delete(TOP_QUERIES_KEY);
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.dto.response.BookDto;
+import com.example.seolab.dto.response.BookSearchResponse;
+import com.example.seolab.service.SearchResultCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchResultCache 단위 테스트")
+class SearchResultCacheTest {
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, Object> valueOperations;
+
+	private SearchResultCache searchResultCache;
+
+	@BeforeEach
+	void setUp() {
+		searchResultCache = new SearchResultCache(redisTemplate, new ObjectMapper().findAndRegisterModules());
+		ReflectionTestUtils.setField(searchResultCache, "ttlSeconds", 3600L);
+		ReflectionTestUtils.setField(searchResultCache, "emptyTtlSeconds", 60L);
+	}
+
+	@Test
+	@DisplayName("결과가 있는 응답은 기본 TTL로 저장하고 ETag를 채운다")
+	void put_withBooks_usesDefaultTtl() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		BookSearchResponse response = BookSearchResponse.builder()
+			.books(List.of(BookDto.builder().title("데미안").build()))
+			.totalCount(1)
+			.build();
+
+		// when
+		searchResultCache.put("데미안", null, 1, 10, response);
+
+		// then
+		verify(valueOperations).set(eq("book_search::1:10:데미안"), anyString(), eq(Duration.ofSeconds(3600)));
+		assertThat(response.getEtag()).isNotBlank();
+	}
+
+	@Test
+	@DisplayName("결과가 없는 응답은 짧은 TTL로만 저장한다")
+	void put_empty_usesShortTtl() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		BookSearchResponse response = BookSearchResponse.builder().books(List.of()).build();
+
+		// when
+		searchResultCache.put("없는 책", null, 1, 10, response);
+
+		// then
+		verify(valueOperations).set(anyString(), anyString(), eq(Duration.ofSeconds(60)));
+	}
+
+	@Test
+	@DisplayName("빈 결과 TTL이 0이면 빈 응답은 저장하지 않는다")
+	void put_emptyWithZeroTtl_skipsCache() {
+		// given
+		ReflectionTestUtils.setField(searchResultCache, "emptyTtlSeconds", 0L);
+		BookSearchResponse response = BookSearchResponse.builder().books(List.of()).build();
+
+		// when
+		searchResultCache.put("없는 책", null, 1, 10, response);
+
+		// then
+		verifyNoInteractions(redisTemplate);
+		assertThat(response.getEtag()).isNotBlank();
+	}
+
+	@Test
+	@DisplayName("저장된 JSON을 읽으면 저장할 때와 같은 ETag를 돌려준다")
+	void get_returnsSameEtagAsPut() {
+		// given
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		BookSearchResponse response = BookSearchResponse.builder()
+			.books(List.of(BookDto.builder().title("데미안").build()))
+			.totalCount(1)
+			.build();
+		searchResultCache.put("데미안", null, 1, 10, response);
+		ArgumentCaptor<Object> json = ArgumentCaptor.forClass(Object.class);
+		verify(valueOperations).set(anyString(), json.capture(), any(Duration.class));
+		when(valueOperations.get("book_search::1:10:데미안")).thenReturn(json.getValue());
+
+		// when
+		BookSearchResponse cached = searchResultCache.get("데미안", null, 1, 10).orElseThrow();
+
+		// then
+		assertThat(cached.getBooks()).extracting(BookDto::getTitle).containsExactly("데미안");
+		assertThat(cached.getEtag()).isEqualTo(response.getEtag());
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.seolab.unit.service;
+
+import com.example.seolab.service.ThumbnailResizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ThumbnailResizer 단위 테스트")
+class ThumbnailResizerTest {
+
+	@TempDir
+	Path tempDir;
+
+	private ThumbnailResizer thumbnailResizer;
+
+	@BeforeEach
+	void setUp() {
+		thumbnailResizer = new ThumbnailResizer();
+		ReflectionTestUtils.setField(thumbnailResizer, "widths", List.of(240, 60, 120));
+		ReflectionTestUtils.setField(thumbnailResizer, "poolSize", 1);
+		ReflectionTestUtils.setField(thumbnailResizer, "queueCapacity", 4);
+		ReflectionTestUtils.setField(thumbnailResizer, "timeoutMs", 5000L);
+		ReflectionTestUtils.invokeMethod(thumbnailResizer, "init");
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.invokeMethod(thumbnailResizer, "shutdown");
+	}
+
+	@Test
+	@DisplayName("요청 너비는 그보다 크거나 같은 가장 작은 규격으로 맞춰진다")
+	void resolveWidth_roundsUpToVariant() {
+		// when & then
+		assertThat(thumbnailResizer.resolveWidth(50)).isEqualTo(60);
+		assertThat(thumbnailResizer.resolveWidth(120)).isEqualTo(120);
+		assertThat(thumbnailResizer.resolveWidth(121)).isEqualTo(240);
+		assertThat(thumbnailResizer.resolveWidth(1000)).isEqualTo(240);
+	}
+
+	@Test
+	@DisplayName("축소본은 비율을 유지한 JPEG로 저장된다")
+	void resize_keepsAspectRatio() throws IOException {
+		// given
+		Path source = tempDir.resolve("original.png");
+		ImageIO.write(new BufferedImage(120, 174, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+		Path target = tempDir.resolve("variants").resolve("original-w60");
+
+		// when
+		boolean resized = thumbnailResizer.resize(source, target, 60);
+
+		// then
+		assertThat(resized).isTrue();
+		BufferedImage variant = ImageIO.read(target.toFile());
+		assertThat(variant.getWidth()).isEqualTo(60);
+		assertThat(variant.getHeight()).isEqualTo(87);
+	}
+
+	@Test
+	@DisplayName("이미지가 아닌 파일은 축소하지 않는다")
+	void resize_returnsFalseForNonImage() throws IOException {
+		// given
+		Path source = tempDir.resolve("broken");
+		Files.writeString(source, "not an image");
+
+		// when
+		boolean resized = thumbnailResizer.resize(source, tempDir.resolve("broken-w60"), 60);
+
+		// then
+		assertThat(resized).isFalse();
+	}
+}
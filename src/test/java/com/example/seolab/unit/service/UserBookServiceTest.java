@@ -12,7 +12,12 @@ import com.example.seolab.exception.DuplicateBookException;
 import com.example.seolab.repository.QuoteRepository;
 import com.example.seolab.repository.UserBookRepository;
 import com.example.seolab.repository.UserRepository;
+import com.example.seolab.repository.projection.UserBookQuoteCount;
+import com.example.seolab.repository.projection.UserBookSummary;
 import com.example.seolab.service.BookService;
+import com.example.seolab.service.BookStatsService;
+import com.example.seolab.service.OwnedBookLookupService;
+import com.example.seolab.service.ThumbnailService;
 import com.example.seolab.service.UserBookService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,9 +27,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -49,6 +58,15 @@ class UserBookServiceTest {
 	@Mock
 	private QuoteRepository quoteRepository;
 
+	@Mock
+	private OwnedBookLookupService ownedBookLookupService;
+
+	@Mock
+	private ThumbnailService thumbnailService;
+
+	@Mock
+	private BookStatsService bookStatsService;
+
 	@InjectMocks
 	private UserBookService userBookService;
 
@@ -121,6 +139,8 @@ class UserBookServiceTest {
 		assertThat(savedUserBook.getBook()).isEqualTo(testBook);
 		assertThat(savedUserBook.getIsReading()).isTrue();
 		assertThat(savedUserBook.getIsFavorite()).isFalse();
+		verify(ownedBookLookupService).onBookAdded(1L, "1234567890");
+		verify(bookStatsService).onBookAdded(1L);
 	}
 
 	@Test
@@ -229,19 +249,86 @@ class UserBookServiceTest {
 	@DisplayName("사용자의 모든 책을 조회 가능")
 	void getUserBooks_returnsAllUserBooks() {
 		// given
-		List<UserBook> userBooks = List.of(testUserBook);
-		when(userBookRepository.findByUserUserIdOrderByUpdatedAtDesc(1L))
-			.thenReturn(userBooks);
-		when(quoteRepository.countByUserBookUserBookId(userBookId))
-			.thenReturn(5L);
+		when(userBookRepository.findSummariesByUserId(1L, false, null, null))
+			.thenReturn(List.of(summaryOf(testUserBook)));
+		when(quoteRepository.countQuotesByUserId(1L))
+			.thenReturn(List.of(quoteCountOf(userBookId, 5L)));
 
 		// when
-		List<UserBookResponse> result = userBookService.getUserBooks(1L, null, null);
+		List<UserBookResponse> result = userBookService.getUserBooks(1L, null, null, null);
 
 		// then
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0).getUserBookId()).isEqualTo(userBookId);
 		assertThat(result.get(0).getQuoteCount()).isEqualTo(5L);
+		assertThat(result.get(0).getBook().getContents()).isNull();
+		verify(quoteRepository, never()).countByUserBookUserBookId(any());
+	}
+
+	@Test
+	@DisplayName("문장이 없는 책의 문장 수는 0")
+	void getUserBooks_withoutQuotes_returnsZeroCount() {
+		// given
+		when(userBookRepository.findSummariesByUserId(1L, false, null, null))
+			.thenReturn(List.of(summaryOf(testUserBook)));
+		when(quoteRepository.countQuotesByUserId(1L))
+			.thenReturn(List.of());
+
+		// when
+		List<UserBookResponse> result = userBookService.getUserBooks(1L, null, null, null);
+
+		// then
+		assertThat(result.get(0).getQuoteCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("책 상세 조회에서만 책 소개(contents)를 반환")
+	void getUserBook_includesContents() {
+		// given
+		testBook.setContents("책 소개");
+		when(userBookRepository.findById(userBookId))
+			.thenReturn(Optional.of(testUserBook));
+
+		// when
+		UserBookResponse result = userBookService.getUserBook(1L, userBookId);
+
+		// then
+		assertThat(result.getBook().getContents()).isEqualTo("책 소개");
+	}
+
+	@Test
+	@DisplayName("허용된 호스트의 표지에만 srcset을 내려준다")
+	void getUserBook_allowedThumbnail_includesSrcset() {
+		// given
+		testBook.setThumbnail("https://search1.kakaocdn.net/thumb/cover.jpg");
+		when(userBookRepository.findById(userBookId))
+			.thenReturn(Optional.of(testUserBook));
+		when(thumbnailService.isAllowed("https://search1.kakaocdn.net/thumb/cover.jpg")).thenReturn(true);
+		when(thumbnailService.buildSrcset(1L)).thenReturn("/api/thumbnails/1?w=120 120w");
+
+		// when
+		UserBookResponse result = userBookService.getUserBook(1L, userBookId);
+
+		// then
+		assertThat(result.getBook().getThumbnailSrcset()).isEqualTo("/api/thumbnails/1?w=120 120w");
+	}
+
+	@Test
+	@DisplayName("프록시가 허용하지 않는 호스트의 표지는 srcset 없이 원래 주소만 내려준다")
+	void getUserBook_disallowedThumbnail_omitsSrcset() {
+		// given
+		testBook.setThumbnail("https://my-blog.example.org/cover.png");
+		when(userBookRepository.findById(userBookId))
+			.thenReturn(Optional.of(testUserBook));
+		when(thumbnailService.isAllowed("https://my-blog.example.org/cover.png")).thenReturn(false);
+
+		// when
+		UserBookResponse result = userBookService.getUserBook(1L, userBookId);
+
+		// then
+		assertThat(result.getBook().getThumbnail()).isEqualTo("https://my-blog.example.org/cover.png");
+		assertThat(result.getBook().getThumbnailSrcset()).isNull();
+		verify(thumbnailService, never()).buildSrcset(any());
 	}
 
 	@Test
@@ -249,40 +336,52 @@ class UserBookServiceTest {
 	void getUserBooks_withFavoriteFilter_returnsFavoriteBooks() {
 		// given
 		testUserBook.setIsFavorite(true);
-		List<UserBook> favoriteBooks = List.of(testUserBook);
 
-		when(userBookRepository.findByUserUserIdAndIsFavoriteTrueOrderByUpdatedAtDesc(1L))
-			.thenReturn(favoriteBooks);
-		when(quoteRepository.countByUserBookUserBookId(userBookId))
-			.thenReturn(3L);
+		when(userBookRepository.findSummariesByUserId(1L, true, null, null))
+			.thenReturn(List.of(summaryOf(testUserBook)));
+		when(quoteRepository.countQuotesByUserId(1L))
+			.thenReturn(List.of(quoteCountOf(userBookId, 3L)));
 
 		// when
-		List<UserBookResponse> result = userBookService.getUserBooks(1L, true, null);
+		List<UserBookResponse> result = userBookService.getUserBooks(1L, true, null, null);
 
 		// then
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0).getIsFavorite()).isTrue();
-		verify(userBookRepository).findByUserUserIdAndIsFavoriteTrueOrderByUpdatedAtDesc(1L);
+		verify(userBookRepository).findSummariesByUserId(1L, true, null, null);
 	}
 
 	@Test
 	@DisplayName("읽는 중인 책만 필터링하여 조회 가능")
 	void getUserBooks_withReadingFilter_returnsReadingBooks() {
 		// given
-		List<UserBook> readingBooks = List.of(testUserBook);
-
-		when(userBookRepository.findByUserUserIdAndIsReadingOrderByUpdatedAtDesc(1L, true))
-			.thenReturn(readingBooks);
-		when(quoteRepository.countByUserBookUserBookId(userBookId))
-			.thenReturn(2L);
+		when(userBookRepository.findSummariesByUserId(1L, false, true, null))
+			.thenReturn(List.of(summaryOf(testUserBook)));
+		when(quoteRepository.countQuotesByUserId(1L))
+			.thenReturn(List.of(quoteCountOf(userBookId, 2L)));
 
 		// when
-		List<UserBookResponse> result = userBookService.getUserBooks(1L, null, true);
+		List<UserBookResponse> result = userBookService.getUserBooks(1L, null, true, null);
 
 		// then
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0).getIsReading()).isTrue();
-		verify(userBookRepository).findByUserUserIdAndIsReadingOrderByUpdatedAtDesc(1L, true);
+		verify(userBookRepository).findSummariesByUserId(1L, false, true, null);
+	}
+
+	@Test
+	@DisplayName("저자 필터는 정규화한 이름으로 조회")
+	void getUserBooks_withAuthorFilter_usesNormalizedName() {
+		// given
+		when(userBookRepository.findSummariesByUserId(1L, false, null, "테스트저자"))
+			.thenReturn(List.of(summaryOf(testUserBook)));
+
+		// when
+		List<UserBookResponse> result = userBookService.getUserBooks(1L, null, null, " 테스트 저자 ");
+
+		// then
+		assertThat(result).hasSize(1);
+		verify(userBookRepository).findSummariesByUserId(1L, false, null, "테스트저자");
 	}
 
 	@Test
@@ -301,4 +400,25 @@ class UserBookServiceTest {
 		verify(quoteRepository).findByUserBookUserBookIdOrderByCreatedAtAsc(userBookId);
 		verify(userBookRepository).delete(testUserBook);
 	}
+
+	private UserBookQuoteCount quoteCountOf(UUID userBookId, long quotes) {
+		return new SpelAwareProxyProjectionFactory().createProjection(UserBookQuoteCount.class,
+			Map.of("userBookId", userBookId, "quotes", quotes));
+	}
+
+	private UserBookSummary summaryOf(UserBook userBook) {
+		Book book = userBook.getBook();
+		Map<String, Object> values = new HashMap<>();
+		values.put("userBookId", userBook.getUserBookId());
+		values.put("bookId", book.getBookId());
+		values.put("title", book.getTitle());
+		values.put("isbn", book.getIsbn());
+		values.put("authors", book.getAuthors());
+		values.put("publisher", book.getPublisher());
+		values.put("isFavorite", userBook.getIsFavorite());
+		values.put("isReading", userBook.getIsReading());
+		values.put("createdAt", LocalDateTime.now());
+		values.put("updatedAt", LocalDateTime.now());
+		return new SpelAwareProxyProjectionFactory().createProjection(UserBookSummary.class, values);
+	}
 }
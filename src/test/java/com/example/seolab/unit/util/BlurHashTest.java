@@ -0,0 +1,58 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.BlurHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BlurHash 단위 테스트")
+class BlurHashTest {
+
+	@Test
+	@DisplayName("4x3 성분 BlurHash는 크기 플래그 L로 시작하는 28자 문자열이다")
+	void encode_producesCompactHash() {
+		// given
+		BufferedImage image = fill(32, 48, 0x336699);
+
+		// when
+		String hash = BlurHash.encode(image, 4, 3);
+
+		// then
+		assertThat(hash).hasSize(28);
+		assertThat(hash).startsWith("L");
+	}
+
+	@Test
+	@DisplayName("같은 이미지는 같은 해시, 다른 이미지는 다른 해시를 만든다")
+	void encode_isDeterministic() {
+		// given
+		BufferedImage red = fill(16, 16, 0xFF0000);
+		BufferedImage blue = fill(16, 16, 0x0000FF);
+
+		// when & then
+		assertThat(BlurHash.encode(red, 4, 3)).isEqualTo(BlurHash.encode(fill(16, 16, 0xFF0000), 4, 3));
+		assertThat(BlurHash.encode(red, 4, 3)).isNotEqualTo(BlurHash.encode(blue, 4, 3));
+	}
+
+	@Test
+	@DisplayName("성분 수가 범위를 벗어나면 예외가 발생한다")
+	void encode_rejectsInvalidComponents() {
+		// when & then
+		assertThatThrownBy(() -> BlurHash.encode(fill(4, 4, 0), 10, 3))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private BufferedImage fill(int width, int height, int rgb) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, rgb);
+			}
+		}
+		return image;
+	}
+}
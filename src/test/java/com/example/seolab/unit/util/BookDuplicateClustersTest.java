@@ -0,0 +1,69 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.BookDuplicateClusters;
+import com.example.seolab.util.BookDuplicateClusters.Cluster;
+import com.example.seolab.util.BookDuplicateClusters.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookDuplicateClusters 단위 테스트")
+class BookDuplicateClustersTest {
+
+	@Test
+	@DisplayName("ISBN-10과 ISBN-13이 같은 책을 묶고 정규화된 ISBN을 가진 책을 남긴다")
+	void find_groupsIsbn10AndIsbn13() {
+		// given
+		List<Entry> entries = List.of(
+			new Entry(1L, "0306406152", "fp-a"),
+			new Entry(2L, "9780306406157", "fp-a"),
+			new Entry(3L, "0306406152 9780306406157", "fp-b"),
+			new Entry(4L, "9781111111113", "fp-c"));
+
+		// when
+		List<Cluster> clusters = BookDuplicateClusters.find(entries);
+
+		// then
+		assertThat(clusters).containsExactly(new Cluster(2L, List.of(1L, 3L), null));
+	}
+
+	@Test
+	@DisplayName("정규화된 ISBN으로 저장된 책이 없으면 가장 오래된 책을 남기고 ISBN을 바꾼다")
+	void find_normalizesWinnerIsbn() {
+		// given
+		List<Entry> entries = List.of(
+			new Entry(5L, "978-0306406157", "fp-a"),
+			new Entry(6L, "0306406152", "fp-a"));
+
+		// when
+		List<Cluster> clusters = BookDuplicateClusters.find(entries);
+
+		// then
+		assertThat(clusters).containsExactly(new Cluster(5L, List.of(6L), "9780306406157"));
+	}
+
+	@Test
+	@DisplayName("ISBN이 없는 책은 fingerprint가 같은 판본이 하나일 때만 그 책에 합친다")
+	void find_attachesIsbnLessBooksByFingerprint() {
+		// given
+		List<Entry> entries = List.of(
+			new Entry(1L, "9780306406157", "fp-a"),
+			new Entry(2L, null, "fp-a"),
+			new Entry(3L, "9781111111113", "fp-b"),
+			new Entry(4L, "9782222222224", "fp-b"),
+			new Entry(5L, null, "fp-b"),
+			new Entry(6L, null, "fp-c"),
+			new Entry(7L, "", "fp-c"));
+
+		// when
+		List<Cluster> clusters = BookDuplicateClusters.find(entries);
+
+		// then
+		assertThat(clusters).containsExactly(
+			new Cluster(1L, List.of(2L), null),
+			new Cluster(6L, List.of(7L), null));
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.BookFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookFingerprint 단위 테스트")
+class BookFingerprintTest {
+
+	@Test
+	@DisplayName("공백, 대소문자, 전각 문자 차이는 같은 fingerprint가 된다")
+	void of_ignoresFormattingDifferences() {
+		// when
+		String original = BookFingerprint.of("Clean Code", "Robert C. Martin", "인사이트");
+		String formatted = BookFingerprint.of(" clean  code", "ＲＯＢＥＲＴ C. Martin", "인사이트 ");
+
+		// then
+		assertThat(formatted).isEqualTo(original);
+		assertThat(original).hasSize(64);
+	}
+
+	@Test
+	@DisplayName("필드 경계가 다르면 다른 fingerprint가 된다")
+	void of_separatesFields() {
+		// when
+		String first = BookFingerprint.of("ab", "c", "d");
+		String second = BookFingerprint.of("a", "bc", "d");
+
+		// then
+		assertThat(first).isNotEqualTo(second);
+	}
+
+	@Test
+	@DisplayName("값이 없어도 fingerprint를 계산한다")
+	void of_handlesNullValues() {
+		// when
+		String fingerprint = BookFingerprint.of("제목", null, null);
+
+		// then
+		assertThat(fingerprint).isEqualTo(BookFingerprint.of("제목", "", ""));
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.HeavyHitterSketch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HeavyHitterSketch 단위 테스트")
+class HeavyHitterSketchTest {
+
+	@Test
+	@DisplayName("자주 등장한 키가 상위 목록에 빈도 순으로 나온다")
+	void top_returnsMostFrequentKeys() {
+		// given
+		HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 3);
+		for (int i = 0; i < 50; i++) {
+			sketch.add("해리포터");
+		}
+		for (int i = 0; i < 30; i++) {
+			sketch.add("데미안");
+		}
+		for (int i = 0; i < 1000; i++) {
+			sketch.add("rare-" + i);
+		}
+
+		// when
+		List<Map.Entry<String, Long>> top = sketch.top(2);
+
+		// then
+		assertThat(top).extracting(Map.Entry::getKey)
+			.containsExactly("해리포터", "데미안");
+		assertThat(top.get(0).getValue()).isGreaterThanOrEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("키 개수와 관계없이 추적하는 후보 수는 capacity를 넘지 않는다")
+	void add_keepsCandidatesBounded() {
+		// given
+		HeavyHitterSketch sketch = new HeavyHitterSketch(4, 256, 10);
+
+		// when
+		for (int i = 0; i < 10_000; i++) {
+			sketch.add("query-" + i);
+		}
+
+		// then
+		assertThat(sketch.trackedKeys()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("decay 호출 시 카운트가 절반으로 줄어든다")
+	void decay_halvesCounts() {
+		// given
+		HeavyHitterSketch sketch = new HeavyHitterSketch(4, 1024, 5);
+		for (int i = 0; i < 8; i++) {
+			sketch.add("자바");
+		}
+
+		// when
+		sketch.decay();
+
+		// then
+		assertThat(sketch.estimate("자바")).isEqualTo(4);
+		assertThat(sketch.top(1).get(0).getValue()).isEqualTo(4);
+	}
+}
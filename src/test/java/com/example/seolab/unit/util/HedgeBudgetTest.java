@@ -0,0 +1,65 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.HedgeBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HedgeBudget 단위 테스트")
+class HedgeBudgetTest {
+
+	@Test
+	@DisplayName("요청이 기록되기 전에는 hedge를 허용하지 않는다")
+	void tryAcquire_withoutRequests_returnsFalse() {
+		// given
+		HedgeBudget budget = new HedgeBudget(0.5, 10);
+
+		// when & then
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+
+	@Test
+	@DisplayName("요청 수 대비 ratio 비율까지만 hedge를 허용한다")
+	void tryAcquire_allowsUpToRatio() {
+		// given
+		HedgeBudget budget = new HedgeBudget(0.1, 10);
+
+		// when
+		int acquired = 0;
+		for (int i = 0; i < 100; i++) {
+			budget.recordRequest();
+			if (budget.tryAcquire()) {
+				acquired++;
+			}
+		}
+
+		// then
+		assertThat(acquired).isBetween(9, 10);
+	}
+
+	@Test
+	@DisplayName("적립되는 토큰은 maxTokens를 넘지 않는다")
+	void recordRequest_capsAtMaxTokens() {
+		// given
+		HedgeBudget budget = new HedgeBudget(1.0, 2);
+		for (int i = 0; i < 100; i++) {
+			budget.recordRequest();
+		}
+
+		// when & then
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+
+	@Test
+	@DisplayName("ratio가 0과 1 사이가 아니면 예외가 발생한다")
+	void constructor_invalidRatio_throwsException() {
+		assertThatThrownBy(() -> new HedgeBudget(-0.1, 10))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new HedgeBudget(1.1, 10))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
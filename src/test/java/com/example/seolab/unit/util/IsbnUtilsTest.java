@@ -0,0 +1,43 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.IsbnUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IsbnUtils 단위 테스트")
+class IsbnUtilsTest {
+
+	@Test
+	@DisplayName("ISBN-10/13 쌍에서는 순서와 관계없이 ISBN-13을 선택한다")
+	void normalize_prefersIsbn13() {
+		// when & then
+		assertThat(IsbnUtils.normalize("0306406152 9780306406157")).isEqualTo("9780306406157");
+		assertThat(IsbnUtils.normalize("9780306406157 0306406152")).isEqualTo("9780306406157");
+	}
+
+	@Test
+	@DisplayName("ISBN-10만 있으면 하이픈을 제거하고 ISBN-13으로 변환한다")
+	void normalize_convertsIsbn10() {
+		// when & then
+		assertThat(IsbnUtils.normalize("0-306-40615-2")).isEqualTo("9780306406157");
+		assertThat(IsbnUtils.normalize("080442957x")).isEqualTo("9780804429573");
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 ISBN은 첫 번째 값을 그대로 사용한다")
+	void normalize_fallsBackToFirstToken() {
+		// when & then
+		assertThat(IsbnUtils.normalize("1234567890 1234567891")).isEqualTo("1234567890");
+		assertThat(IsbnUtils.normalize(" ")).isNull();
+	}
+
+	@Test
+	@DisplayName("기존 데이터 조회용 후보에는 원래 값과 ISBN-10 형태가 포함된다")
+	void legacyCandidates_includesIsbn10() {
+		// when & then
+		assertThat(IsbnUtils.legacyCandidates("9780306406157")).containsExactly("0306406152");
+		assertThat(IsbnUtils.legacyCandidates("0306406152 9780306406157")).containsExactly("0306406152");
+	}
+}
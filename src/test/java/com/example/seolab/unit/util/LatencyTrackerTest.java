@@ -0,0 +1,104 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.LatencyTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LatencyTracker 단위 테스트")
+class LatencyTrackerTest {
+
+	@Test
+	@DisplayName("샘플이 없으면 -1을 반환한다")
+	void percentile_empty_returnsMinusOne() {
+		// given
+		LatencyTracker tracker = new LatencyTracker(10);
+
+		// when & then
+		assertThat(tracker.percentile(0.9)).isEqualTo(-1);
+		assertThat(tracker.sampleCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("기록된 샘플에서 분위수를 계산한다")
+	void percentile_returnsNearestRank() {
+		// given
+		LatencyTracker tracker = new LatencyTracker(100, 1);
+		for (long i = 100; i >= 1; i--) {
+			tracker.record(i);
+		}
+
+		// when & then
+		assertThat(tracker.percentile(0.9)).isEqualTo(90);
+		assertThat(tracker.percentile(0.5)).isEqualTo(50);
+		assertThat(tracker.percentile(1.0)).isEqualTo(100);
+		assertThat(tracker.percentile(0.0)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("용량을 넘으면 가장 오래된 샘플부터 덮어쓴다")
+	void record_overCapacity_overwritesOldest() {
+		// given
+		LatencyTracker tracker = new LatencyTracker(3, 1);
+
+		// when
+		tracker.record(1000);
+		tracker.record(1);
+		tracker.record(2);
+		tracker.record(3);
+
+		// then
+		assertThat(tracker.sampleCount()).isEqualTo(3);
+		assertThat(tracker.percentile(1.0)).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("refreshInterval건이 새로 기록될 때까지는 이전에 계산한 분위수를 재사용한다")
+	void percentile_reusesCachedValueUntilRefresh() {
+		// given
+		LatencyTracker tracker = new LatencyTracker(100, 5);
+		for (int i = 0; i < 10; i++) {
+			tracker.record(10);
+		}
+		assertThat(tracker.percentile(0.9)).isEqualTo(10);
+
+		// when: 4건은 재계산 주기 안
+		for (int i = 0; i < 4; i++) {
+			tracker.record(1000);
+		}
+
+		// then
+		assertThat(tracker.percentile(0.9)).isEqualTo(10);
+
+		// when: 5건째에 다시 계산
+		tracker.record(1000);
+
+		// then
+		assertThat(tracker.percentile(0.9)).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("다른 분위수를 요청하면 즉시 다시 계산한다")
+	void percentile_differentPercentile_recomputes() {
+		// given
+		LatencyTracker tracker = new LatencyTracker(100, 100);
+		for (long i = 1; i <= 10; i++) {
+			tracker.record(i);
+		}
+
+		// when & then
+		assertThat(tracker.percentile(0.9)).isEqualTo(9);
+		assertThat(tracker.percentile(0.5)).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("용량이나 재계산 주기가 0 이하이면 예외가 발생한다")
+	void constructor_invalidArguments_throwException() {
+		assertThatThrownBy(() -> new LatencyTracker(0))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new LatencyTracker(10, 0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
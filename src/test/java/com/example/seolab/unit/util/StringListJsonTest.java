@@ -0,0 +1,83 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.StringListJson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StringListJson 단위 테스트")
+class StringListJsonTest {
+
+	@Test
+	@DisplayName("MySQL이 돌려주는 형식(쉼표 뒤 공백)의 배열을 읽는다")
+	void parse_readsMySqlFormat() {
+		// when
+		List<String> values = StringListJson.parse("[\"한강\", \"Han Kang\"]");
+
+		// then
+		assertThat(values).containsExactly("한강", "Han Kang");
+		assertThatThrownBy(() -> values.add("추가"))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("이스케이프와 서로게이트 쌍을 복원한다")
+	void parse_decodesEscapes() {
+		// when
+		List<String> values = StringListJson.parse(
+			"[\"say \\\"hi\\\"\", \"a\\\\b\\/c\", \"line\\nbreak\", \"\\uD83D\\uDE00\\u00e9\"]");
+
+		// then
+		assertThat(values).containsExactly("say \"hi\"", "a\\b/c", "line\nbreak", "😀é");
+	}
+
+	@Test
+	@DisplayName("빈 배열과 null을 구분한다")
+	void parse_handlesEmptyAndNull() {
+		// when & then
+		assertThat(StringListJson.parse(" [ ] ")).isEmpty();
+		assertThat(StringListJson.parse("null")).isNull();
+	}
+
+	@Test
+	@DisplayName("문자열 배열이 아니면 예외가 발생한다")
+	void parse_rejectsNonStringArrays() {
+		// when & then
+		assertThatThrownBy(() -> StringListJson.parse("[1, 2]"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StringListJson.parse("[\"a\",]"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StringListJson.parse("[\"a\"] x"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StringListJson.parse("[\"a"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("쓴 값을 다시 읽으면 같은 배열이 된다")
+	void write_roundTrips() {
+		// given
+		List<String> values = List.of("저자", "quote\"s", "back\\slash", "tab\there", "\u0001", "😀");
+
+		// when
+		String json = StringListJson.write(values);
+
+		// then
+		assertThat(json).startsWith("[\"저자\",\"quote\\\"s\"");
+		assertThat(StringListJson.parse(json)).isEqualTo(values);
+	}
+
+	@Test
+	@DisplayName("null 요소와 null 배열도 JSON으로 쓴다")
+	void write_handlesNulls() {
+		// when & then
+		assertThat(StringListJson.write(null)).isEqualTo("null");
+		assertThat(StringListJson.write(List.of())).isEqualTo("[]");
+		assertThat(StringListJson.write(Arrays.asList("a", null))).isEqualTo("[\"a\",null]");
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.SymSpell;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SymSpell 단위 테스트")
+class SymSpellTest {
+
+	private SymSpell symSpell;
+
+	@BeforeEach
+	void setUp() {
+		symSpell = new SymSpell(2, 7);
+		symSpell.addWord("해리포터", 10);
+		symSpell.addWord("데미안", 5);
+		symSpell.addWord("harry", 3);
+		symSpell.addWord("hurry", 1);
+		symSpell.addWord("potter", 3);
+	}
+
+	@Test
+	@DisplayName("한 글자 오타는 거리 1의 사전 단어로 교정된다")
+	void lookup_correctsSingleTypo() {
+		// when
+		List<SymSpell.Suggestion> suggestions = symSpell.lookup("해리포토", 3);
+
+		// then
+		assertThat(suggestions).isNotEmpty();
+		assertThat(suggestions.get(0).term()).isEqualTo("해리포터");
+		assertThat(suggestions.get(0).distance()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("인접 문자 교환은 한 번의 편집으로 본다")
+	void lookup_treatsTranspositionAsSingleEdit() {
+		// when
+		List<SymSpell.Suggestion> suggestions = symSpell.lookup("ptoter", 3);
+
+		// then
+		assertThat(suggestions).extracting(SymSpell.Suggestion::term).containsExactly("potter");
+		assertThat(suggestions.get(0).distance()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("거리가 같으면 빈도가 높은 단어가 먼저 나온다")
+	void lookup_ordersByDistanceThenFrequency() {
+		// when
+		List<SymSpell.Suggestion> suggestions = symSpell.lookup("hary", 3);
+
+		// then
+		assertThat(suggestions).extracting(SymSpell.Suggestion::term).startsWith("harry");
+	}
+
+	@Test
+	@DisplayName("최대 편집 거리를 넘는 단어는 제안하지 않는다")
+	void lookup_ignoresDistantWords() {
+		// when
+		List<SymSpell.Suggestion> suggestions = symSpell.lookup("xyzxyz", 3);
+
+		// then
+		assertThat(suggestions).isEmpty();
+	}
+}
@@ -0,0 +1,63 @@
+package com.example.seolab.unit.util;
+
+import com.example.seolab.util.Tsid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tsid 단위 테스트")
+class TsidTest {
+
+	@AfterEach
+	void tearDown() {
+		Tsid.setNodeId(0);
+	}
+
+	@Test
+	@DisplayName("1ms 안에 순번을 넘겨도 계속 증가하는 ID를 만든다")
+	void next_isStrictlyIncreasing() {
+		// given
+		long previous = Tsid.next();
+
+		// when & then
+		for (int i = 0; i < 100_000; i++) {
+			long current = Tsid.next();
+			assertThat(current).isGreaterThan(previous);
+			previous = current;
+		}
+	}
+
+	@Test
+	@DisplayName("JavaScript에서 안전한 53비트 범위 안의 ID를 만든다")
+	void next_fitsInJavaScriptSafeInteger() {
+		// when
+		long id = Tsid.next();
+
+		// then
+		assertThat(id).isPositive().isLessThan(1L << 53);
+	}
+
+	@Test
+	@DisplayName("노드 ID가 ID에 포함된다")
+	void next_embedsNodeId() {
+		// given
+		Tsid.setNodeId(5);
+
+		// when
+		long id = Tsid.next();
+
+		// then
+		assertThat((id >> 8) & Tsid.MAX_NODE_ID).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 노드 ID는 거부한다")
+	void setNodeId_rejectsOutOfRange() {
+		// when & then
+		assertThatThrownBy(() -> Tsid.setNodeId(Tsid.MAX_NODE_ID + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}